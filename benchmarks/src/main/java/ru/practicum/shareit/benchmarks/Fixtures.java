@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.mapper.UserMapperImpl;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Тестовые сущности для бенчмарков: связанные между собой пользователи, запросы, вещи,
+ * бронирования и комментарии, как их возвращают репозитории.
+ */
+final class Fixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Поднимает только мапперы MapStruct: ItemMapper получает UserMapper через внедрение, как в сервере.
+     */
+    static AnnotationConfigApplicationContext mappers() {
+        return new AnnotationConfigApplicationContext(UserMapperImpl.class, ItemMapperImpl.class,
+                CommentMapperImpl.class, ItemRequestMapperImpl.class);
+    }
+
+    static List<User> users(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> User.builder().id((long) i).name("Пользователь " + i).email("user" + i + "@mail.ru")
+                        .build())
+                .toList();
+    }
+
+    static List<ItemRequest> requests(List<User> users) {
+        return IntStream.range(0, users.size())
+                .mapToObj(i -> ItemRequest.builder().id((long) i).description("Нужна дрель, запрос " + i)
+                        .requestor(users.get(i)).created(NOW.minusDays(i)).build())
+                .toList();
+    }
+
+    static List<Item> items(List<User> users, List<ItemRequest> requests) {
+        return IntStream.range(0, users.size())
+                .mapToObj(i -> Item.builder().id((long) i).name("Дрель " + i)
+                        .description("Ударная дрель с набором свёрл, вещь " + i).available(i % 3 != 0)
+                        .owner(users.get(i)).request(i % 2 == 0 ? requests.get(i) : null).build())
+                .toList();
+    }
+
+    static List<Booking> bookings(List<Item> items, List<User> users) {
+        return IntStream.range(0, items.size())
+                .mapToObj(i -> Booking.builder().id((long) i).start(NOW.plusDays(i)).end(NOW.plusDays(i + 1))
+                        .item(items.get(i)).booker(users.get((i + 1) % users.size()))
+                        .status(Booking.BookingStatus.APPROVED).build())
+                .toList();
+    }
+
+    static List<Comment> comments(List<Item> items, List<User> users) {
+        return IntStream.range(0, items.size())
+                .mapToObj(i -> Comment.builder().id((long) i).text("Отличная вещь, всё работает " + i)
+                        .item(items.get(i)).author(users.get((i + 1) % users.size())).created(NOW.minusHours(i))
+                        .build())
+                .toList();
+    }
+}
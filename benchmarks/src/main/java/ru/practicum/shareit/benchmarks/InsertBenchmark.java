@@ -0,0 +1,98 @@
+package ru.practicum.shareit.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.Server;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вставка 100 бронирований и 100 комментариев в одной транзакции на H2 из профиля test
+ * с JDBC-пакетами размера batchSize: 1 соответствует вставке по одной строке.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBenchmark {
+    private static final int ROWS = 100;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Server.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN")
+                .run();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = User.builder().name("Owner").email("owner@mail.ru").build();
+            booker = User.builder().name("Booker").email("booker@mail.ru").build();
+            item = Item.builder().name("Дрель").description("Дрель").available(true).owner(owner).build();
+            entityManager.persist(owner);
+            entityManager.persist(booker);
+            entityManager.persist(item);
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Comment").executeUpdate();
+            entityManager.createQuery("delete from Booking").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insertBookingsAndComments() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Booking.builder().item(item).booker(booker).start(start.plusDays(i))
+                        .end(start.plusDays(i + 1)).status(Booking.BookingStatus.APPROVED).build());
+                entityManager.persist(Comment.builder().item(item).author(booker).text("Отзыв " + i)
+                        .created(start).build());
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.mapper.UserMapper;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Преобразование списков сущностей в DTO ответов: каждый маппер на списке из size строк.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private ItemMapper itemMapper;
+    private UserMapper userMapper;
+    private CommentMapper commentMapper;
+    private ItemRequestMapper itemRequestMapper;
+    private List<User> users;
+    private List<ItemRequest> requests;
+    private List<Item> items;
+    private List<Booking> bookings;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        context = Fixtures.mappers();
+        itemMapper = context.getBean(ItemMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+        commentMapper = context.getBean(CommentMapper.class);
+        itemRequestMapper = context.getBean(ItemRequestMapper.class);
+        users = Fixtures.users(size);
+        requests = Fixtures.requests(users);
+        items = Fixtures.items(users, requests);
+        bookings = Fixtures.bookings(items, users);
+        comments = Fixtures.comments(items, users);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDtoOut> itemToItemDtoOut() {
+        return items.stream().map(itemMapper::toItemDtoOut).toList();
+    }
+
+    @Benchmark
+    public List<UserDto> userToUserDto() {
+        return users.stream().map(userMapper::toUserDto).toList();
+    }
+
+    @Benchmark
+    public List<CommentDtoOut> commentToCommentDtoOut() {
+        return comments.stream().map(commentMapper::toCommentDtoOut).toList();
+    }
+
+    @Benchmark
+    public List<ItemRequestDtoOut> requestToRequestDtoOut() {
+        return requests.stream().map(itemRequestMapper::toRequestDtoOut).toList();
+    }
+
+    @Benchmark
+    public List<BookingDtoOut> bookingToBookingDtoOut() {
+        return bookings.stream().map(BookingMapper::toBookingDtoOut).toList();
+    }
+}
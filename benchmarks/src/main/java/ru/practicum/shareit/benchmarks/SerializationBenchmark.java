@@ -0,0 +1,96 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сериализация списков DTO ответов в JSON тем же ObjectMapper, что строит Spring MVC.
+ * Вещи сериализуются с комментариями и последним бронированием, как в ответе владельцу.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ItemDtoOut> items;
+    private List<BookingDtoOut> bookings;
+    private List<ItemRequestDtoOut> requests;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<User> users = Fixtures.users(size);
+        List<ItemRequest> itemRequests = Fixtures.requests(users);
+        List<Item> itemEntities = Fixtures.items(users, itemRequests);
+        List<Comment> comments = Fixtures.comments(itemEntities, users);
+        try (AnnotationConfigApplicationContext context = Fixtures.mappers()) {
+            ItemMapper itemMapper = context.getBean(ItemMapper.class);
+            CommentMapper commentMapper = context.getBean(CommentMapper.class);
+            ItemRequestMapper itemRequestMapper = context.getBean(ItemRequestMapper.class);
+            List<Booking> bookingEntities = Fixtures.bookings(itemEntities, users);
+            items = itemEntities.stream()
+                    .map(item -> {
+                        ItemDtoOut itemDtoOut = itemMapper.toItemDtoOut(item);
+                        List<CommentDtoOut> itemComments = List.of(commentMapper.toCommentDtoOut(
+                                comments.get(item.getId().intValue())));
+                        itemDtoOut.setComments(itemComments);
+                        itemDtoOut.setLastBooking(BookingMapper.toBookingDto(
+                                bookingEntities.get(item.getId().intValue())));
+                        return itemDtoOut;
+                    })
+                    .toList();
+            bookings = bookingEntities.stream().map(BookingMapper::toBookingDtoOut).toList();
+            requests = itemRequests.stream().map(itemRequestMapper::toRequestDtoOut).toList();
+        }
+    }
+
+    @Benchmark
+    public byte[] items() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] bookings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] requests() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(requests);
+    }
+}
@@ -2,9 +2,10 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
@@ -15,26 +16,25 @@ import ru.practicum.shareit.exception.ValidationException;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory,
+                         @Value("${shareit-server.passthrough:true}") boolean passthrough) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
     public ResponseEntity<Object> getBookings(long userId, State state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return getPage("", userId, state, from, size);
     }
 
     public ResponseEntity<Object> getBookingById(long bookingId, Long userId) {
@@ -53,13 +53,20 @@ public class BookingClient extends BaseClient {
                 userId, Map.of("approved", isApproved), null);
     }
 
-
-    public ResponseEntity<Object> getAllUserBooking(Long userId, State state) {
-        return get("?state={state}", userId, Map.of("state", state.name()));
+    public ResponseEntity<Object> getAllUserBooking(Long userId, State state, Integer from, Integer size) {
+        return getBookings(userId, state, from, size);
     }
 
+    public ResponseEntity<Object> getAllOwnerBooking(Long ownerId, State state, Integer from, Integer size) {
+        return getPage("/owner", ownerId, state, from, size);
+    }
 
-    public ResponseEntity<Object> getAllOwnerBooking(Long ownerId, State state) {
-        return get("?state={state}", ownerId, Map.of("state", state.name()));
+    private ResponseEntity<Object> getPage(String path, long userId, State state, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.client.EventStreamClient;
+
+import java.net.http.HttpClient;
+
+/**
+ * Поток событий бронирований идёт через отдельный HTTP-клиент: открытые подписки живут до получаса
+ * и не должны занимать соединения общего пула и упираться в его таймаут чтения.
+ * Таймаута чтения у этого клиента нет, поэтому поток ограничивает spring.mvc.async.request-timeout: он чуть больше
+ * shareit.bookings.events.timeout сервера, и сервер, который перестал отвечать, не удерживает соединение навсегда.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BookingEventsClient extends EventStreamClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public BookingEventsClient(@Value("${shareit-server.url}") String serverUrl, RestClient.Builder builder,
+                               HttpClient shareItStreamHttpClient) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .requestFactory(new JdkClientHttpRequestFactory(shareItStreamHttpClient))
+                        .build()
+        );
+    }
+
+    public ResponseEntity<StreamingResponseBody> getEvents(Long userId) {
+        return stream("/events", userId);
+    }
+}
@@ -1,19 +1,27 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.State;
 
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @RequestMapping(path = "/bookings")
 public class BookingGatewayController {
 
     private final BookingClient bookingClient;
+    private final BookingEventsClient bookingEventsClient;
 
     @PostMapping
     public ResponseEntity<Object> addNewBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -30,6 +38,12 @@ public class BookingGatewayController {
         return bookingClient.approveBooking(userId, bookingId, approved);
     }
 
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> getEvents(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("подписка на события бронирований пользователя с ID: {}", userId);
+        return bookingEventsClient.getEvents(userId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBookingById(@PathVariable Long bookingId, @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("запрос на получение бронирования с ID: {} для пользователя с ID: {}", bookingId, userId);
@@ -38,18 +52,22 @@ public class BookingGatewayController {
 
     @GetMapping
     public ResponseEntity<Object> getAllUserBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                    @RequestParam(defaultValue = "ALL") String state) {
+                                                    @RequestParam(defaultValue = "ALL") String state,
+                                                    @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                    @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size) {
         State stateEnum = State.fromString(state.toUpperCase());
         log.info("Получение всех бронирований для пользователя с ID: {} со статусом: {}", userId, stateEnum);
-        return bookingClient.getAllUserBooking(userId, stateEnum);
+        return bookingClient.getAllUserBooking(userId, stateEnum, from, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllOwnerBooking(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                     @RequestParam(defaultValue = "ALL") String state) {
+                                                     @RequestParam(defaultValue = "ALL") String state,
+                                                     @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                     @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size) {
         State stateEnum = State.fromString(state.toUpperCase());
         log.info("Получение всех бронирований владельца с ID: {} со статусом: {}", ownerId, stateEnum);
-        return bookingClient.getAllOwnerBooking(ownerId, stateEnum);
+        return bookingClient.getAllOwnerBooking(ownerId, stateEnum, from, size);
     }
 
 }
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.State;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(WebClient shareItWebClient) {
+        super(shareItWebClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllUserBooking(Long userId, State state, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllOwnerBooking(Long ownerId, State state, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get("/owner?state={state}&from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getEvents(Long userId) {
+        return stream("/events", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingById(long bookingId, Long userId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewBooking(long userId, BookItemRequestDto bookItemRequestDto) {
+        if (bookItemRequestDto.getStart() == bookItemRequestDto.getEnd()) {
+            return Mono.error(new ValidationException("Дата начала и конца бронирования должны быть разными"));
+        }
+        return post("", userId, bookItemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> approveBooking(Long userId, Long bookingId, boolean isApproved) {
+        return patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", isApproved), null);
+    }
+}
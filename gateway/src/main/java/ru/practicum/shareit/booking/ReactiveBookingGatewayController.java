@@ -0,0 +1,74 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.State;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/bookings")
+public class ReactiveBookingGatewayController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                @RequestBody BookItemRequestDto bookingDtoIn) {
+        log.info("запрос на добавление нового бронирования для пользователя {}: {}", userId, bookingDtoIn);
+        return bookingClient.addNewBooking(userId, bookingDtoIn);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> approveBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                 @PathVariable Long bookingId,
+                                                                 @RequestParam Boolean approved) {
+        log.info("запрос на подтверждение бронированя от пользователя с ID: {}", userId);
+        return bookingClient.approveBooking(userId, bookingId, approved);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getEvents(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("подписка на события бронирований пользователя с ID: {}", userId);
+        return bookingClient.getEvents(userId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingById(@PathVariable Long bookingId,
+                                                                 @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение бронирования с ID: {} для пользователя с ID: {}", bookingId, userId);
+        return bookingClient.getBookingById(bookingId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllUserBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                    @RequestParam(defaultValue = "ALL") String state,
+                                                                    @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                                    @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size) {
+        State stateEnum = State.fromString(state.toUpperCase());
+        log.info("Получение всех бронирований для пользователя с ID: {} со статусом: {}", userId, stateEnum);
+        return bookingClient.getAllUserBooking(userId, stateEnum, from, size);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllOwnerBooking(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                                     @RequestParam(defaultValue = "ALL") String state,
+                                                                     @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                                     @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size) {
+        State stateEnum = State.fromString(state.toUpperCase());
+        log.info("Получение всех бронирований владельца с ID: {} со статусом: {}", ownerId, stateEnum);
+        return bookingClient.getAllOwnerBooking(ownerId, stateEnum, from, size);
+    }
+}
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.client;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,10 +16,26 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 public class BaseClient {
+    /**
+     * Заголовки одного соединения (RFC 7230, 6.1), их нельзя передавать клиенту гейтвея.
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION,
+            HttpHeaders.TE, HttpHeaders.TRAILER, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE);
+
     protected final RestTemplate rest;
+    /**
+     * В режиме passthrough тело ответа сервера передаётся клиенту как есть, байтами, без разбора JSON.
+     */
+    private final boolean passthrough;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, false);
+    }
+
+    public BaseClient(RestTemplate rest, boolean passthrough) {
         this.rest = rest;
+        this.passthrough = passthrough;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -44,6 +63,16 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
+    /**
+     * Отправляет тело как есть с указанным типом содержимого, например поток NDJSON.
+     * Тело читается из потока по мере отправки и не собирается в памяти гейтвея.
+     */
+    protected ResponseEntity<Object> post(String path, Long userId, InputStream body, MediaType contentType) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.setContentType(contentType);
+        return makeAndSendRequest(HttpMethod.POST, path, null, new HttpEntity<>(new InputStreamResource(body), headers));
+    }
+
     protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
@@ -84,7 +113,15 @@ public class BaseClient {
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId,
                                                           @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        return makeAndSendRequest(method, path, parameters, new HttpEntity<>(body, defaultHeaders(userId)));
+    }
+
+    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path,
+                                                          @Nullable Map<String, Object> parameters,
+                                                          HttpEntity<T> requestEntity) {
+        if (passthrough) {
+            return passthroughRequest(method, path, parameters, requestEntity);
+        }
 
         ResponseEntity<Object> shareitServerResponse;
         try {
@@ -99,7 +136,39 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    private <T> ResponseEntity<Object> passthroughRequest(HttpMethod method, String path,
+                                                          @Nullable Map<String, Object> parameters,
+                                                          HttpEntity<T> requestEntity) {
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(endToEndHeaders(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
+        }
+        return ResponseEntity.status(shareitServerResponse.getStatusCode())
+                .headers(endToEndHeaders(shareitServerResponse.getHeaders()))
+                .body(shareitServerResponse.getBody());
+    }
+
+    static HttpHeaders endToEndHeaders(@Nullable HttpHeaders headers) {
+        HttpHeaders result = new HttpHeaders();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    result.addAll(name, values);
+                }
+            });
+        }
+        return result;
+    }
+
+    static HttpHeaders defaultHeaders(@Nullable Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
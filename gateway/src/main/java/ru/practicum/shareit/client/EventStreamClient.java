@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Клиент потоков событий сервера (text/event-stream) для сервлетного режима гейтвея.
+ * Ответ не буферизуется: каждый прочитанный кусок сразу отправляется клиенту гейтвея, а соединение с сервером
+ * закрывается вместе с потоком. Ошибка сервера, например неизвестный пользователь, передаётся клиенту как есть.
+ */
+public class EventStreamClient {
+    private static final int BUFFER_SIZE = 8192;
+
+    protected final RestClient rest;
+
+    public EventStreamClient(RestClient rest) {
+        this.rest = rest;
+    }
+
+    protected ResponseEntity<StreamingResponseBody> stream(String path, Long userId) {
+        return rest.get()
+                .uri(path)
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange((request, response) -> {
+                    HttpHeaders headers = BaseClient.endToEndHeaders(response.getHeaders());
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        try (response) {
+                            byte[] body = response.getBody().readAllBytes();
+                            return ResponseEntity.status(response.getStatusCode()).headers(headers)
+                                    .body(out -> out.write(body));
+                        }
+                    }
+                    return ResponseEntity.status(response.getStatusCode()).headers(headers)
+                            .body(out -> copy(response, out));
+                }, false);
+    }
+
+    private static void copy(ClientHttpResponse response, OutputStream out) throws IOException {
+        try (response; InputStream in = response.getBody()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        }
+    }
+}
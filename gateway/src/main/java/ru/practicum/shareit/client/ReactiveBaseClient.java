@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Неблокирующий аналог {@link BaseClient} на WebClient для реактивного режима гейтвея.
+ * Ответ сервера, в том числе с ошибкой, передаётся клиенту потоком буферов вместе с end-to-end заголовками:
+ * тело не собирается в памяти гейтвея и не упирается в лимит буферизации кодеков WebClient.
+ */
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+    private final String apiPrefix;
+
+    public ReactiveBaseClient(WebClient webClient, String apiPrefix) {
+        this.webClient = webClient;
+        this.apiPrefix = apiPrefix;
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, T body) {
+        return post(path, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, Long userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+    }
+
+    /**
+     * Отправляет тело как есть с указанным типом содержимого, например поток NDJSON.
+     * Буферы тела уходят на сервер по мере получения и не собираются в памяти гейтвея.
+     */
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, Long userId, Flux<DataBuffer> body,
+                                                         MediaType contentType) {
+        HttpHeaders headers = BaseClient.defaultHeaders(userId);
+        headers.setContentType(contentType);
+        return sendRequest(HttpMethod.POST, path, headers, null, BodyInserters.fromDataBuffers(body));
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, Long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, Long userId,
+                                                               @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    /**
+     * Открывает поток событий сервера (text/event-stream) и передаёт его клиенту по мере поступления данных.
+     */
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> stream(String path, Long userId) {
+        HttpHeaders headers = BaseClient.defaultHeaders(userId);
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        return sendRequest(HttpMethod.GET, path, headers, null, null);
+    }
+
+    private <T> Mono<ResponseEntity<Flux<DataBuffer>>> makeAndSendRequest(HttpMethod method, String path, Long userId,
+                                                                          @Nullable Map<String, Object> parameters,
+                                                                          @Nullable T body) {
+        return sendRequest(method, path, BaseClient.defaultHeaders(userId), parameters,
+                body != null ? BodyInserters.fromValue(body) : null);
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> sendRequest(HttpMethod method, String path, HttpHeaders headers,
+                                                               @Nullable Map<String, Object> parameters,
+                                                               @Nullable BodyInserter<?, ? super ClientHttpRequest> body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(apiPrefix + path, parameters != null ? parameters : Map.of())
+                .headers(requestHeaders -> requestHeaders.addAll(headers));
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.body(body) : request;
+        return requestWithBody.retrieve()
+                .onStatus(HttpStatusCode::isError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> ResponseEntity.status(response.getStatusCode())
+                        .headers(BaseClient.endToEndHeaders(response.getHeaders()))
+                        .body(response.getBody()));
+    }
+}
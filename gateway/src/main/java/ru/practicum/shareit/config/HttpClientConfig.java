@@ -0,0 +1,80 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+
+/**
+ * Общий пул HTTP-соединений для всех клиентов гейтвея.
+ * Соединения переиспользуются между запросами, простаивающие закрываются, заполнение пула видно в метриках.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+    public static final String POOL_NAME = "shareit-server";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager shareItConnectionManager(HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareItHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                 HttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory shareItRequestFactory(CloseableHttpClient shareItHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(shareItHttpClient);
+    }
+
+    /**
+     * Клиент для долгих потоков событий: без пула и таймаута чтения, соединение держится, пока открыт поток.
+     */
+    @Bean
+    public HttpClient shareItStreamHttpClient(HttpClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+    }
+
+    @Bean
+    public MeterBinder shareItConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME);
+    }
+}
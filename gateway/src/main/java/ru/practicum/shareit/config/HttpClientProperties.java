@@ -0,0 +1,42 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки пула HTTP-соединений гейтвея к серверу.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.http")
+public class HttpClientProperties {
+    /**
+     * Максимальное число соединений в пуле.
+     */
+    private int maxTotal = 500;
+    /**
+     * Максимальное число соединений к одному хосту; весь трафик идёт на сервер, поэтому почти равно maxTotal.
+     */
+    private int maxPerRoute = 500;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    /**
+     * Сколько ждать свободного соединения из пула.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    /**
+     * Соединения, простаивающие дольше, закрываются фоновым потоком.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+    /**
+     * Сколько держать keep-alive соединение, если сервер не прислал Keep-Alive.
+     */
+    private Duration keepAlive = Duration.ofSeconds(60);
+    /**
+     * Простой, после которого соединение проверяется перед повторным использованием.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * WebClient реактивного режима гейтвея. Пул соединений Reactor Netty настраивается теми же
+ * свойствами shareit-server.http.*, что и пул блокирующего клиента.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class ReactiveHttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareItConnectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder(HttpClientConfig.POOL_NAME)
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEviction())
+                .maxLifeTime(properties.getKeepAlive())
+                .evictInBackground(properties.getIdleEviction())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient shareItWebClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                      ConnectionProvider shareItConnectionProvider,
+                                      HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(shareItConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        return builder
+                .baseUrl(serverUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -6,6 +6,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 @Slf4j
 @RestControllerAdvice
@@ -24,5 +28,33 @@ public class ErrorHandler {
         return new ErrorResponse("MethodArgumentNotValidException");
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleReactiveValidationExceptions(final WebExchangeBindException ex) {
+        log.warn(ex.getMessage());
+        return new ErrorResponse("MethodArgumentNotValidException");
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodValidationExceptions(final HandlerMethodValidationException ex) {
+        log.warn(ex.getMessage());
+        return new ErrorResponse("Некорректные параметры запроса");
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleTypeMismatchExceptions(final MethodArgumentTypeMismatchException ex) {
+        log.warn(ex.getMessage());
+        return new ErrorResponse("Некорректные параметры запроса");
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleReactiveInputExceptions(final ServerWebInputException ex) {
+        log.warn(ex.getMessage());
+        return new ErrorResponse("Некорректные параметры запроса");
+    }
+
 
 }
@@ -1,12 +1,12 @@
 package ru.practicum.shareit.item;
 
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
@@ -14,21 +14,28 @@ import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(createRestTemplate(serverUrl, builder));
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory,
+                      @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(createRestTemplate(serverUrl, builder, requestFactory), passthrough);
     }
 
-    private static RestTemplate createRestTemplate(String serverUrl, RestTemplateBuilder builder) {
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-
+    private static RestTemplate createRestTemplate(String serverUrl, RestTemplateBuilder builder,
+                                                   ClientHttpRequestFactory requestFactory) {
         return builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                 .requestFactory(() -> requestFactory)
@@ -39,10 +46,24 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDtoRequest);
     }
 
+    public ResponseEntity<Object> addNewItems(Long userId, List<ItemDtoRequest> itemDtoRequests) {
+        return post("/bulk", userId, itemDtoRequests);
+    }
+
+    public ResponseEntity<Object> addNewItemsStream(Long userId, InputStream ndjson) {
+        return post("/bulk", userId, ndjson, NDJSON);
+    }
+
     public ResponseEntity<Object> getItemById(Long itemId, Long userId) {
         return get("/" + itemId, userId, null);
     }
 
+    public ResponseEntity<Object> getItemsByIds(List<Long> ids, Long userId) {
+        Map<String, Object> parameters = Map.of("ids", ids.stream().map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        return get("/batch?ids={ids}", userId, parameters);
+    }
+
     public ResponseEntity<Object> updateItem(Long userId, Long itemId, ItemDtoRequest itemDtoRequest) {
         return patch("/" + itemId, userId, itemDtoRequest);
     }
@@ -51,11 +72,24 @@ public class ItemClient extends BaseClient {
         return get("", userId, null);
     }
 
-    public ResponseEntity<Object> searchItemByText(String text) {
+    public ResponseEntity<Object> searchItemByText(String text, Integer from, Integer size, String cursor) {
         if (text == null || text.trim().isEmpty()) {
             return ResponseEntity.badRequest().body("Текст не должен быть пустым");
         }
-        return get("/search", null, Map.of("text", text));
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/search?text={text}&from={from}&size={size}", null, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", null, parameters);
+    }
+
+    public ResponseEntity<Object> getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of("from", from, "to", to);
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
     }
 
     public ResponseEntity<Object> saveComment(Long itemId, CommentDtoRequest commentDtoRequest, Long userId) {
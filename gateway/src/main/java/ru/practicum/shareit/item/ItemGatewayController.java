@@ -1,7 +1,15 @@
 package ru.practicum.shareit.item;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -9,9 +17,13 @@ import ru.practicum.shareit.item.dto.CommentDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.utility.Create;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/items")
 @RequiredArgsConstructor
 public class ItemGatewayController {
@@ -24,6 +36,20 @@ public class ItemGatewayController {
         return itemClient.addNewItem(userId, itemDtoRequest);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> addNewItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                              @NotEmpty @Size(max = 10_000) @RequestBody List<ItemDtoRequest> itemDtoRequests) {
+        log.info("запрос на добавление {} вещей для пользователя {}", itemDtoRequests.size(), userId);
+        return itemClient.addNewItems(userId, itemDtoRequests);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<Object> addNewItemsStream(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                    InputStream ndjson) {
+        log.info("запрос на потоковое добавление вещей для пользователя {}", userId);
+        return itemClient.addNewItemsStream(userId, ndjson);
+    }
+
     @GetMapping("/{itemId}")
     public ResponseEntity<Object> getItemById(@PathVariable Long itemId,
                                               @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -31,6 +57,13 @@ public class ItemGatewayController {
         return itemClient.getItemById(itemId, userId);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<Object> getItemsByIds(@NotEmpty @Size(max = 100) @RequestParam List<Long> ids,
+                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение вещей с id {} для пользователя с id {}", ids, userId);
+        return itemClient.getItemsByIds(ids, userId);
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
                                              @PathVariable Long itemId,
@@ -46,9 +79,20 @@ public class ItemGatewayController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItemByText(@RequestParam String text) {
-        log.info("запрос на поиск вещей по тексту: {}", text);
-        return itemClient.searchItemByText(text);
+    public ResponseEntity<Object> searchItemByText(@RequestParam String text,
+                                                   @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                   @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size,
+                                                   @RequestParam(required = false) String cursor) {
+        log.info("запрос на поиск вещей по тексту: {}, from = {}, size = {}", text, from, size);
+        return itemClient.searchItemByText(text, from, size, cursor);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getItemAvailability(@PathVariable Long itemId,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("запрос на получение календаря занятости вещи с id {} с {} по {}", itemId, from, to);
+        return itemClient.getItemAvailability(itemId, from, to);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDtoRequest;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(WebClient shareItWebClient) {
+        super(shareItWebClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItem(Long userId, ItemDtoRequest itemDtoRequest) {
+        return post("", userId, itemDtoRequest);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItems(Long userId, List<ItemDtoRequest> itemDtoRequests) {
+        return post("/bulk", userId, itemDtoRequests);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItemsStream(Long userId, Flux<DataBuffer> ndjson) {
+        return post("/bulk", userId, ndjson, ItemClient.NDJSON);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemById(Long itemId, Long userId) {
+        return get("/" + itemId, userId, null);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsByIds(List<Long> ids, Long userId) {
+        Map<String, Object> parameters = Map.of("ids", ids.stream().map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        return get("/batch?ids={ids}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateItem(Long userId, Long itemId, ItemDtoRequest itemDtoRequest) {
+        return patch("/" + itemId, userId, itemDtoRequest);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwnerItems(Long userId) {
+        return get("", userId, null);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItemByText(String text, Integer from, Integer size, String cursor) {
+        if (text == null || text.trim().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(Flux.just(DefaultDataBufferFactory.sharedInstance
+                    .wrap("Текст не должен быть пустым".getBytes(StandardCharsets.UTF_8)))));
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/search?text={text}&from={from}&size={size}", null, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of("from", from, "to", to);
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> saveComment(Long itemId, CommentDtoRequest commentDtoRequest, Long userId) {
+        return post("/" + itemId + "/comment", userId, commentDtoRequest);
+    }
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDtoRequest;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.utility.Create;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ReactiveItemGatewayController {
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                             @Validated({Create.class}) @RequestBody ItemDtoRequest itemDtoRequest) {
+        log.info("запрос на добавление новой вещи для пользователя {}: {}", userId, itemDtoRequest);
+        return itemClient.addNewItem(userId, itemDtoRequest);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                              @NotEmpty @Size(max = 10_000) @RequestBody List<ItemDtoRequest> itemDtoRequests) {
+        log.info("запрос на добавление {} вещей для пользователя {}", itemDtoRequests.size(), userId);
+        return itemClient.addNewItems(userId, itemDtoRequests);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewItemsStream(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                    @RequestBody Flux<DataBuffer> ndjson) {
+        log.info("запрос на потоковое добавление вещей для пользователя {}", userId);
+        return itemClient.addNewItemsStream(userId, ndjson);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemById(@PathVariable Long itemId,
+                                                              @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение вещи с id {} для пользователя с id {}", itemId, userId);
+        return itemClient.getItemById(itemId, userId);
+    }
+
+    @GetMapping("/batch")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsByIds(@NotEmpty @Size(max = 100) @RequestParam List<Long> ids,
+                                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение вещей с id {} для пользователя с id {}", ids, userId);
+        return itemClient.getItemsByIds(ids, userId);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                             @PathVariable Long itemId,
+                                                             @RequestBody ItemDtoRequest itemDtoRequest) {
+        log.info("запрос на изменение вещи с id {} для пользователя {}: {}", itemId, userId, itemDtoRequest);
+        return itemClient.updateItem(userId, itemId, itemDtoRequest);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwnerItems(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение всех вещей для пользователя {}", userId);
+        return itemClient.getOwnerItems(userId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItemByText(@RequestParam String text,
+                                                                   @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                                   @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size,
+                                                                   @RequestParam(required = false) String cursor) {
+        log.info("запрос на поиск вещей по тексту: {}, from = {}, size = {}", text, from, size);
+        return itemClient.searchItemByText(text, from, size, cursor);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemAvailability(@PathVariable Long itemId,
+                                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("запрос на получение календаря занятости вещи с id {} с {} по {}", itemId, from, to);
+        return itemClient.getItemAvailability(itemId, from, to);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addComment(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                             @PathVariable Long itemId,
+                                                             @Validated(Create.class) @RequestBody CommentDtoRequest commentDtoRequest) {
+        log.info("Запрос на добавление комментария");
+        return itemClient.saveComment(itemId, commentDtoRequest, userId);
+    }
+}
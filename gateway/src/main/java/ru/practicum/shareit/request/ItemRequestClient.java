@@ -1,33 +1,34 @@
 package ru.practicum.shareit.request;
 
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(createRestTemplate(serverUrl, builder));
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory,
+                             @Value("${shareit-server.passthrough:true}") boolean passthrough) {
+        super(createRestTemplate(serverUrl, builder, requestFactory), passthrough);
     }
 
-    private static RestTemplate createRestTemplate(String serverUrl, RestTemplateBuilder builder) {
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-
+    private static RestTemplate createRestTemplate(String serverUrl, RestTemplateBuilder builder,
+                                                   ClientHttpRequestFactory requestFactory) {
         return builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
                 .requestFactory(() -> requestFactory)
@@ -43,12 +44,15 @@ public class ItemRequestClient extends BaseClient {
     }
 
 
-    public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "from", from,
-                "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getAllRequests(Long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/all?from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 
     public ResponseEntity<Object> getRequestByIdWithItems(Long userId, Long requestId) {
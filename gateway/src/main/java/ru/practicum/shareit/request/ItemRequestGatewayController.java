@@ -1,7 +1,11 @@
 package ru.practicum.shareit.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +15,7 @@ import ru.practicum.shareit.utility.Create;
 @Slf4j
 @RequiredArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/requests")
 public class ItemRequestGatewayController {
     private final ItemRequestClient itemRequestClient;
@@ -31,10 +36,11 @@ public class ItemRequestGatewayController {
 
     @GetMapping("/all")
     public ResponseEntity<Object> getAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                 @RequestParam(required = false) Integer from,
-                                                 @RequestParam(required = false) Integer size) {
-        log.info("запрос на получение всех заявок");
-        return itemRequestClient.getAllRequests(userId, from, size);
+                                                 @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                 @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size,
+                                                 @RequestParam(required = false) String cursor) {
+        log.info("запрос на получение всех заявок, from = {}, size = {}", from, size);
+        return itemRequestClient.getAllRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    public ReactiveItemRequestClient(WebClient shareItWebClient) {
+        super(shareItWebClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewRequest(Long userId, ItemRequestDtoRequest request) {
+        return post("", userId, request);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwnerRequests(Long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllRequests(Long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/all?from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequestByIdWithItems(Long userId, Long requestId) {
+        return get("/" + requestId, userId);
+    }
+}
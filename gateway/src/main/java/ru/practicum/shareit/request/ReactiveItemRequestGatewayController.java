@@ -0,0 +1,54 @@
+package ru.practicum.shareit.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
+import ru.practicum.shareit.utility.Create;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/requests")
+public class ReactiveItemRequestGatewayController {
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addNewRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                @Validated(Create.class) @RequestBody ItemRequestDtoRequest itemRequestDtoRequest) {
+        log.info("запрос на добавление нового заявки для пользователя {}: {}", userId, itemRequestDtoRequest);
+        return itemRequestClient.addNewRequest(userId, itemRequestDtoRequest);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwnerRequests(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Запрос на получение всех заявок для пользователя {}", userId);
+        return itemRequestClient.getOwnerRequests(userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                 @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                                 @Positive @Max(100) @RequestParam(defaultValue = "10") Integer size,
+                                                                 @RequestParam(required = false) String cursor) {
+        log.info("запрос на получение всех заявок, from = {}, size = {}", from, size);
+        return itemRequestClient.getAllRequests(userId, from, size, cursor);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getRequestByIdWithItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                          @PathVariable Long requestId) {
+        log.info("запрос на получение заявки с id {} для пользователя", requestId);
+        return itemRequestClient.getRequestByIdWithItems(userId, requestId);
+    }
+}
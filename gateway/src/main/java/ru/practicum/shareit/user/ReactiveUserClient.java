@@ -0,0 +1,44 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDtoRequest;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(WebClient shareItWebClient) {
+        super(shareItWebClient, API_PREFIX);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllUsers() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUserById(Long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> saveUser(UserDtoRequest userDtoRequest) {
+        if (!userDtoRequest.getEmail().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$")) {
+            return Mono.error(new IllegalArgumentException("Неверный формат e-mail"));
+        }
+        return post("", userDtoRequest);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long userId, UserDtoRequest userDtoRequest) {
+        return patch("/" + userId, userId, userDtoRequest);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(Long userId) {
+        return delete("/" + userId);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.user;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserDtoRequest;
+import ru.practicum.shareit.utility.Update;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+public class ReactiveUserGatewayController {
+    private final ReactiveUserClient userClient;
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUsers() {
+        return userClient.getAllUsers();
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUserById(@PathVariable Long userId) {
+        log.info("Ищем пользователя с id = {}", userId);
+        return userClient.getUserById(userId);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createUser(@RequestBody @Valid UserDtoRequest userDtoRequest) {
+        log.info("запрос на создание пользователя {}", userDtoRequest);
+        return userClient.saveUser(userDtoRequest);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateUser(@PathVariable Long userId,
+                                                             @RequestBody @Validated(Update.class) UserDtoRequest userDtoRequest) {
+        log.info("запрос на обновление пользователя {}", userDtoRequest);
+        return userClient.update(userId, userDtoRequest);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteUser(@PathVariable Long userId) {
+        return userClient.delete(userId);
+    }
+}
@@ -0,0 +1,230 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.practicum.shareit.booking.BookingGatewayController;
+import ru.practicum.shareit.booking.ReactiveBookingGatewayController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@AutoConfigureWebTestClient
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+class ReactiveGatewayTest {
+    /**
+     * Больше лимита буферизации кодеков WebClient по умолчанию (256 КБ).
+     */
+    private static final String LARGE_BODY = "[" + "{\"id\":1,\"name\":\"Дрель\"},".repeat(20_000) + "{\"id\":2}]";
+    private static final BlockingQueue<String> SERVER_REQUESTS = new LinkedBlockingQueue<>();
+    private static final HttpServer SHAREIT_SERVER = startShareItServer();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void shareItServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SHAREIT_SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopShareItServer() {
+        SHAREIT_SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void clearServerRequests() {
+        SERVER_REQUESTS.clear();
+    }
+
+    @Test
+    void testOnlyReactiveControllersAreRegistered() {
+        assertEquals(1, context.getBeansOfType(ReactiveBookingGatewayController.class).size());
+        assertTrue(context.getBeansOfType(BookingGatewayController.class).isEmpty());
+    }
+
+    @Test
+    void testServerBodyAndHeadersArePassedThrough() throws InterruptedException {
+        webTestClient.get().uri("/items/search?text=дрель&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("X-Next-Cursor", "next")
+                .expectBody(String.class).isEqualTo("[{\"id\":1,\"name\":\"Дрель\"}]");
+
+        assertEquals("GET /items/search?text=%D0%B4%D1%80%D0%B5%D0%BB%D1%8C&from=0&size=5 user=null",
+                SERVER_REQUESTS.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testResponseLargerThanCodecLimitIsPassedThrough() {
+        // у самого тестового клиента тот же лимит, поэтому для проверки он поднят
+        byte[] body = webTestClient.mutate()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(LARGE_BODY.length() * 4))
+                .build()
+                .get().uri("/items")
+                .header("X-Sharer-User-Id", "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        assertNotNull(body);
+        assertEquals(LARGE_BODY, new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRequestBodyAndUserHeaderAreForwarded() throws InterruptedException {
+        webTestClient.post().uri("/requests")
+                .header("X-Sharer-User-Id", "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Нужна дрель\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        String serverRequest = SERVER_REQUESTS.poll(1, TimeUnit.SECONDS);
+        assertNotNull(serverRequest);
+        assertTrue(serverRequest.startsWith("POST /requests user=7"));
+        assertTrue(serverRequest.contains("Нужна дрель"));
+    }
+
+    @Test
+    void testAvailabilityPeriodIsForwarded() throws InterruptedException {
+        webTestClient.get().uri("/items/3/availability?from=2030-01-01T10:00:00&to=2030-01-02T10:00:00")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals("GET /items/3/availability?from=2030-01-01T10%3A00&to=2030-01-02T10%3A00 user=null",
+                SERVER_REQUESTS.poll(1, TimeUnit.SECONDS));
+
+        webTestClient.get().uri("/items/3/availability?from=завтра&to=2030-01-02T10:00:00")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testNdjsonBodyIsForwardedAsIs() throws InterruptedException {
+        webTestClient.post().uri("/items/bulk")
+                .header("X-Sharer-User-Id", "7")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .bodyValue("{\"name\":\"Дрель\"}\n{\"name\":\"Пила\"}\n")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals("POST /items/bulk user=7 {\"name\":\"Дрель\"}\n{\"name\":\"Пила\"}\n",
+                SERVER_REQUESTS.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNdjsonBodyLargerThanCodecLimitIsForwarded() throws InterruptedException {
+        String ndjson = "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n".repeat(10_000);
+
+        webTestClient.post().uri("/items/bulk")
+                .header("X-Sharer-User-Id", "7")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals("POST /items/bulk user=7 " + ndjson, SERVER_REQUESTS.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testServerErrorIsPassedThrough() {
+        webTestClient.get().uri("/bookings/404")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("{\"error\":\"Бронирование с Id 404 не найдено\"}");
+    }
+
+    @Test
+    void testEventStreamIsPassedThrough() throws InterruptedException {
+        webTestClient.get().uri("/bookings/events")
+                .header("X-Sharer-User-Id", "7")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class).isEqualTo("event:booking\ndata:{\"id\":1,\"status\":\"APPROVED\"}\n\n");
+
+        assertEquals("GET /bookings/events user=7", SERVER_REQUESTS.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testInvalidParametersAreRejectedBeforeServerCall() throws InterruptedException {
+        webTestClient.get().uri("/bookings?size=0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"\",\"email\":\"user@mail.ru\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertNull(SERVER_REQUESTS.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static HttpServer startShareItServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", ReactiveGatewayTest::answer);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        SERVER_REQUESTS.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getRawPath()
+                + (exchange.getRequestURI().getRawQuery() != null ? "?" + exchange.getRequestURI().getRawQuery() : "")
+                + " user=" + exchange.getRequestHeaders().getFirst("X-Sharer-User-Id")
+                + (requestBody.isEmpty() ? "" : " " + requestBody));
+        int status = 200;
+        String contentType = "application/json";
+        String body = "[{\"id\":1,\"name\":\"Дрель\"}]";
+        if (exchange.getRequestURI().getPath().equals("/items")) {
+            body = LARGE_BODY;
+        } else if (exchange.getRequestURI().getPath().equals("/bookings/events")) {
+            contentType = "text/event-stream";
+            body = "event:booking\ndata:{\"id\":1,\"status\":\"APPROVED\"}\n\n";
+        } else if (exchange.getRequestURI().getPath().equals("/bookings/404")) {
+            status = 404;
+            body = "{\"error\":\"Бронирование с Id 404 не найдено\"}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("X-Next-Cursor", "next");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
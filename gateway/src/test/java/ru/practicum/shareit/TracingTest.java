@@ -0,0 +1,50 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.user.UserClient;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверяет, что трасса входящего запроса продолжается в запросе гейтвея к серверу.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TracingTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final MockMvc mvc;
+    private final UserClient userClient;
+
+    @Test
+    void testTraceContextIsPropagatedToServer() throws Exception {
+        RestTemplate rest = (RestTemplate) ReflectionTestUtils.getField(userClient, "rest");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+        server.expect(requestTo(endsWith("/users/1")))
+                .andExpect(header("traceparent", matchesPattern("00-" + TRACE_ID + "-[0-9a-f]{16}-01")))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        mvc.perform(get("/users/1").header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk());
+
+        server.verify();
+    }
+}
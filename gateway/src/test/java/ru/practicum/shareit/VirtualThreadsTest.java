@@ -0,0 +1,106 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Сервер-заглушка отвечает только когда одновременно ждут ответа больше запросов, чем потоков в пуле Tomcat
+ * по умолчанию (200). На пуле платформенных потоков такой тест упирается в таймаут и получает 500.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.org.springframework.web.client.RestTemplate=INFO")
+class VirtualThreadsTest {
+    private static final int CONCURRENT_REQUESTS = 300;
+    private static final CountDownLatch ALL_REQUESTS_ARRIVED = new CountDownLatch(CONCURRENT_REQUESTS);
+    private static final HttpServer SHAREIT_SERVER = startShareItServer();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void shareItServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SHAREIT_SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopShareItServer() {
+        SHAREIT_SERVER.stop(0);
+    }
+
+    @Test
+    void testGatewayHoldsMoreBlockedRequestsThanPlatformWorkerThreads() {
+        assertEquals("true", environment.getProperty("spring.threads.virtual.enabled"));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/1")).build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                .mapToObj(i -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+
+        responses.forEach(response -> {
+            HttpResponse<String> result = response.join();
+            assertEquals(200, result.statusCode());
+            assertTrue(result.body().contains("\"id\":1"));
+        });
+    }
+
+    private static HttpServer startShareItServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/users/1", VirtualThreadsTest::answerWhenAllArrived);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void answerWhenAllArrived(HttpExchange exchange) throws IOException {
+        ALL_REQUESTS_ARRIVED.countDown();
+        boolean allArrived;
+        try {
+            allArrived = ALL_REQUESTS_ARRIVED.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            allArrived = false;
+        }
+        byte[] body = "{\"id\":1,\"name\":\"User\",\"email\":\"user@mail.ru\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(allArrived ? 200 : 500, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.State;
@@ -34,7 +35,8 @@ class BookingClientTest {
         when(restTemplateBuilder.requestFactory(any(Supplier.class))).thenReturn(restTemplateBuilder);
         when(restTemplateBuilder.build()).thenReturn(restTemplate);
 
-        bookingClient = new BookingClient("http://localhost:8080", restTemplateBuilder);
+        bookingClient = new BookingClient("http://localhost:8080", restTemplateBuilder,
+                Mockito.mock(ClientHttpRequestFactory.class), false);
     }
 
     @Test
@@ -100,7 +102,7 @@ class BookingClientTest {
                 anyMap()
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> response = bookingClient.getAllUserBooking(userId, state);
+        ResponseEntity<Object> response = bookingClient.getAllUserBooking(userId, state, 0, 10);
 
         assertEquals(expectedResponse, response);
         verify(restTemplate, times(1)).exchange(anyString(),
@@ -122,11 +124,11 @@ class BookingClientTest {
                 anyMap()
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> response = bookingClient.getAllOwnerBooking(ownerId, state);
+        ResponseEntity<Object> response = bookingClient.getAllOwnerBooking(ownerId, state, 20, 10);
 
         assertEquals(expectedResponse, response);
-        verify(restTemplate, times(1)).exchange(anyString(),
-                eq(HttpMethod.GET), any(), eq(Object.class), anyMap());
+        verify(restTemplate, times(1)).exchange(eq("/owner?state={state}&from={from}&size={size}"),
+                eq(HttpMethod.GET), any(), eq(Object.class), eq(Map.of("state", "ALL", "from", 20, "size", 10)));
     }
 
     @Test
@@ -31,6 +31,9 @@ public class BookingControllerGatewayTest {
     @MockBean
     private BookingClient bookingClient;
 
+    @MockBean
+    private BookingEventsClient bookingEventsClient;
+
     private final BookItemRequestDto dto = BookItemRequestDto.builder()
             .start(LocalDateTime.now().minusDays(2))
             .end(LocalDateTime.now().minusDays(1))
@@ -85,7 +88,7 @@ public class BookingControllerGatewayTest {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(bookingClient, times(1)).getAllUserBooking(anyLong(), any(State.class));
+        verify(bookingClient, times(1)).getAllUserBooking(anyLong(), any(State.class), eq(0), eq(10));
     }
 
     @SneakyThrows
@@ -99,7 +102,18 @@ public class BookingControllerGatewayTest {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(bookingClient, times(1)).getAllOwnerBooking(anyLong(), any(State.class));
+        verify(bookingClient, times(1)).getAllOwnerBooking(anyLong(), any(State.class), eq(0), eq(10));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllOwnerBooking_ShouldRejectTooLargePage() {
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", "1")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingClient);
     }
 
     @SneakyThrows
@@ -111,7 +125,7 @@ public class BookingControllerGatewayTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print());
 
-        verify(bookingClient, times(1)).getAllUserBooking(1L, State.ALL);
+        verify(bookingClient, times(1)).getAllUserBooking(1L, State.ALL, 0, 10);
         verifyNoMoreInteractions(bookingClient);
     }
 
@@ -0,0 +1,119 @@
+package ru.practicum.shareit.booking;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Заглушка сервера отправляет первое событие и держит поток открытым, пока тест его не прочитает:
+ * так видно, что гейтвей передаёт события по мере поступления, а не после закрытия потока.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookingEventsClientTest {
+    private static final String EVENT = "event:booking\ndata:{\"id\":1,\"status\":\"APPROVED\"}\n\n";
+    private static final CountDownLatch FIRST_EVENT_READ = new CountDownLatch(1);
+    private static final HttpServer SHAREIT_SERVER = startShareItServer();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void shareItServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SHAREIT_SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopShareItServer() {
+        SHAREIT_SERVER.stop(0);
+    }
+
+    @Test
+    void testEventsAreStreamedBeforeServerClosesStream() throws Exception {
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(eventsRequest(1),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertEquals("event:booking", reader.readLine());
+            assertEquals("data:{\"id\":1,\"status\":\"APPROVED\"}", reader.readLine());
+            FIRST_EVENT_READ.countDown();
+            assertEquals("", reader.readLine());
+            assertEquals(":ping", reader.readLine());
+        }
+    }
+
+    @Test
+    void testServerErrorIsPassedThrough() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(eventsRequest(404),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(404, response.statusCode());
+        assertEquals("{\"error\":\"Пользователь с ID 404 не найден\"}", response.body());
+    }
+
+    private HttpRequest eventsRequest(long userId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bookings/events"))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static HttpServer startShareItServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/bookings/events", BookingEventsClientTest::answer);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        if ("404".equals(exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"))) {
+            byte[] body = "{\"error\":\"Пользователь с ID 404 не найден\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(EVENT.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            FIRST_EVENT_READ.await(5, TimeUnit.SECONDS);
+            out.write(":ping\n\n".getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
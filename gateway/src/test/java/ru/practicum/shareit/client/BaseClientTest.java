@@ -2,19 +2,32 @@ package ru.practicum.shareit.client;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 public class BaseClientTest {
 
@@ -453,4 +466,80 @@ public class BaseClientTest {
         assertEquals(response, result);
         verify(restTemplate, times(1)).exchange(eq(url), eq(HttpMethod.PUT), any(), eq(Object.class));
     }
+
+    @Test
+    void shouldPassServerBytesAndEndToEndHeadersThrough() {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        BaseClient passthroughClient = new BaseClient(realRestTemplate, true);
+        byte[] body = "[{\"id\":1,\"name\":\"Дрель\"}]".getBytes(StandardCharsets.UTF_8);
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.set("X-Next-Cursor", "abc");
+        serverHeaders.set(HttpHeaders.CONNECTION, "keep-alive");
+        serverHeaders.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.expect(requestTo("/items"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(serverHeaders));
+
+        ResponseEntity<Object> result = passthroughClient.get("/items", 1L);
+
+        server.verify();
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertArrayEquals(body, (byte[]) result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertEquals("abc", result.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        assertFalse(result.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void shouldSendRawBodyWithGivenContentType() {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        BaseClient passthroughClient = new BaseClient(realRestTemplate, true);
+        String ndjson = "{\"name\":\"Дрель\"}\n{\"name\":\"Пила\"}\n";
+        server.expect(requestTo("/items/bulk"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andExpect(content().string(ndjson))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> result = passthroughClient.post("/items/bulk", 1L,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                MediaType.parseMediaType("application/x-ndjson"));
+
+        server.verify();
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    @Test
+    void shouldPassServerErrorBodyAndContentTypeThrough() {
+        RestTemplate realRestTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(realRestTemplate).build();
+        BaseClient passthroughClient = new BaseClient(realRestTemplate, true);
+        byte[] body = "{\"error\":\"Вещь с Id 5 не найдена\"}".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo("/items/5"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(body));
+
+        ResponseEntity<Object> result = passthroughClient.get("/items/5", 1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        assertArrayEquals(body, (byte[]) result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+    }
+
+    @Test
+    void shouldRequestRawBytesInPassthroughMode() {
+        BaseClient passthroughClient = new BaseClient(restTemplate, true);
+        Map<String, Object> parameters = Map.of("state", "ALL");
+        when(restTemplate.exchange(eq("/?state={state}"), eq(HttpMethod.GET), any(), eq(byte[].class), eq(parameters)))
+                .thenReturn(ResponseEntity.ok(new byte[]{'[', ']'}));
+
+        ResponseEntity<Object> result = passthroughClient.get("/?state={state}", 1L, parameters);
+
+        assertArrayEquals(new byte[]{'[', ']'}, (byte[]) result.getBody());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), eq(Object.class), anyMap());
+    }
 }
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.ItemRequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(properties = {
+        "shareit-server.http.max-total=64",
+        "shareit-server.http.max-per-route=32"
+})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class HttpClientConfigTest {
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ClientHttpRequestFactory requestFactory;
+    private final MeterRegistry meterRegistry;
+    private final BookingClient bookingClient;
+    private final ItemClient itemClient;
+    private final ItemRequestClient itemRequestClient;
+    private final UserClient userClient;
+
+    @Test
+    void testPoolLimitsAreTakenFromProperties() {
+        assertEquals(64, connectionManager.getMaxTotal());
+        assertEquals(32, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void testAllClientsShareOneRequestFactory() {
+        for (BaseClient client : List.of(bookingClient, itemClient, itemRequestClient, userClient)) {
+            RestTemplate rest = (RestTemplate) ReflectionTestUtils.getField(client, "rest");
+            assertSame(requestFactory, rest.getRequestFactory());
+        }
+    }
+
+    @Test
+    void testPoolMetricsAreRegistered() {
+        assertEquals(64, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", HttpClientConfig.POOL_NAME)
+                .gauge()
+                .value());
+    }
+}
@@ -2,6 +2,8 @@ package ru.practicum.shareit.exception;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -25,4 +27,20 @@ public class ErrorHandlerTest {
 
         assertEquals("MethodArgumentNotValidException", response.getError());
     }
+
+    @Test
+    void handleReactiveValidationExceptions_shouldReturnBadRequestResponse() {
+        WebExchangeBindException e = mock(WebExchangeBindException.class);
+        ErrorResponse response = errorHandler.handleReactiveValidationExceptions(e);
+
+        assertEquals("MethodArgumentNotValidException", response.getError());
+    }
+
+    @Test
+    void handleTypeMismatchExceptions_shouldReturnBadRequestResponse() {
+        MethodArgumentTypeMismatchException e = mock(MethodArgumentTypeMismatchException.class);
+        ErrorResponse response = errorHandler.handleTypeMismatchExceptions(e);
+
+        assertEquals("Некорректные параметры запроса", response.getError());
+    }
 }
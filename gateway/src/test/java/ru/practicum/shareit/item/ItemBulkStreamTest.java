@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Файл NDJSON больше лимита буферизации кодеков (256 КБ) доходит до сервера целиком. Гейтвей не собирает тело
+ * в памяти, поэтому не знает его длину заранее и передаёт его серверу кусками (chunked).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItemBulkStreamTest {
+    private static final String NDJSON = "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n"
+            .repeat(10_000);
+    private static final BlockingQueue<String> SERVER_BODIES = new LinkedBlockingQueue<>();
+    private static final BlockingQueue<String> SERVER_CONTENT_LENGTHS = new LinkedBlockingQueue<>();
+    private static final HttpServer SHAREIT_SERVER = startShareItServer();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void shareItServerUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SHAREIT_SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopShareItServer() {
+        SHAREIT_SERVER.stop(0);
+    }
+
+    @Test
+    void testLargeNdjsonBodyIsStreamedToServer() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/items/bulk"))
+                .header("X-Sharer-User-Id", "1")
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(NDJSON))
+                .build();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(NDJSON, SERVER_BODIES.poll(1, TimeUnit.SECONDS));
+        assertNull(SERVER_CONTENT_LENGTHS.poll());
+    }
+
+    private static HttpServer startShareItServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/items/bulk", ItemBulkStreamTest::answer);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        SERVER_BODIES.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null) {
+            SERVER_CONTENT_LENGTHS.add(contentLength);
+        }
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
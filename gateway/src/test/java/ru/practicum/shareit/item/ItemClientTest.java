@@ -15,6 +15,8 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,7 +43,8 @@ class ItemClientTest {
         Mockito.when(builder.build())
                 .thenReturn(restTemplate);
 
-        itemClient = new ItemClient("http://localhost:8080", builder);
+        itemClient = new ItemClient("http://localhost:8080", builder,
+                Mockito.mock(ClientHttpRequestFactory.class), false);
     }
 
 
@@ -157,10 +160,58 @@ class ItemClientTest {
         );
     }
 
+    @Test
+    void testGetItemsByIds_ShouldJoinIdsIntoSingleRequest() {
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+
+        Mockito.when(restTemplate.exchange(
+                anyString(),
+                Mockito.eq(HttpMethod.GET),
+                any(),
+                Mockito.eq(Object.class),
+                anyMap()
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> response = itemClient.getItemsByIds(List.of(3L, 1L, 2L), 1L);
+
+        assertEquals(expectedResponse, response);
+        verify(restTemplate, Mockito.times(1)).exchange(
+                Mockito.eq("/batch?ids={ids}"),
+                Mockito.eq(HttpMethod.GET),
+                any(),
+                Mockito.eq(Object.class),
+                Mockito.eq(Map.of("ids", "3,1,2"))
+        );
+    }
+
+    @Test
+    void testSearchItemByText_ShouldPassPagingAndCursor() {
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok().header("X-Next-Cursor", "next").build();
+
+        Mockito.when(restTemplate.exchange(
+                anyString(),
+                Mockito.eq(HttpMethod.GET),
+                any(),
+                Mockito.eq(Object.class),
+                anyMap()
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> response = itemClient.searchItemByText("дрель", 0, 5, "cursor");
+
+        assertEquals(expectedResponse, response);
+        verify(restTemplate, Mockito.times(1)).exchange(
+                Mockito.eq("/search?text={text}&from={from}&size={size}&cursor={cursor}"),
+                Mockito.eq(HttpMethod.GET),
+                any(),
+                Mockito.eq(Object.class),
+                Mockito.eq(Map.of("text", "дрель", "from", 0, "size", 5, "cursor", "cursor"))
+        );
+    }
+
     @Test
     void shouldThrowBadRequestExceptionWhenTextIsEmpty() {
         String text = "";
-        ResponseEntity<Object> response = itemClient.searchItemByText(text);
+        ResponseEntity<Object> response = itemClient.searchItemByText(text, 0, 10, null);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertEquals("Текст не должен быть пустым", response.getBody());
         verify(restTemplate, never()).exchange(
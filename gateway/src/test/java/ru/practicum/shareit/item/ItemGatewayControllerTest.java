@@ -12,7 +12,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.CommentDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.eq;
@@ -101,7 +106,104 @@ public class ItemGatewayControllerTest {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(itemClient, times(1)).searchItemByText(eq("Test"));
+        verify(itemClient, times(1)).searchItemByText(eq("Test"), eq(0), eq(10), isNull());
+    }
+
+    @SneakyThrows
+    @Test
+    void searchItemByText_ShouldReturnBadRequest_WhenSizeIsTooLarge() {
+        mvc.perform(get("/items/search")
+                        .param("text", "Test")
+                        .param("size", "101")
+                        .header("X-Sharer-User-Id", "1"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).searchItemByText(anyString(), anyInt(), anyInt(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void addNewItems_ShouldReturnOk() {
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", "1")
+                        .content(mapper.writeValueAsString(List.of(dto, dto)))
+                        .characterEncoding(UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(itemClient, times(1)).addNewItems(eq(1L), eq(List.of(dto, dto)));
+    }
+
+    @SneakyThrows
+    @Test
+    void addNewItems_ShouldReturnBadRequest_WhenListIsEmpty() {
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", "1")
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).addNewItems(any(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void addNewItemsStream_ShouldForwardNdjsonBody() {
+        byte[] ndjson = "{\"name\":\"Дрель\"}\n{\"name\":\"Пила\"}\n".getBytes(UTF_8);
+
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", "1")
+                        .content(ndjson)
+                        .contentType("application/x-ndjson"))
+                .andExpect(status().isOk());
+
+        verify(itemClient, times(1)).addNewItemsStream(eq(1L), any(InputStream.class));
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemsByIds_ShouldReturnOk() {
+        mvc.perform(get("/items/batch")
+                        .param("ids", "1,2,3")
+                        .header("X-Sharer-User-Id", "1"))
+                .andExpect(status().isOk());
+
+        verify(itemClient, times(1)).getItemsByIds(List.of(1L, 2L, 3L), 1L);
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemsByIds_ShouldReturnBadRequest_WhenTooManyIds() {
+        mvc.perform(get("/items/batch")
+                        .param("ids", LongStream.rangeClosed(1, 101).mapToObj(String::valueOf)
+                                .collect(Collectors.joining(",")))
+                        .header("X-Sharer-User-Id", "1"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).getItemsByIds(any(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemAvailability_ShouldReturnOk() {
+        mvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01T10:00:00")
+                        .param("to", "2030-01-02T10:00:00"))
+                .andExpect(status().isOk());
+
+        verify(itemClient, times(1)).getItemAvailability(1L,
+                LocalDateTime.of(2030, 1, 1, 10, 0), LocalDateTime.of(2030, 1, 2, 10, 0));
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemAvailability_ShouldReturnBadRequest_WhenDateIsInvalid() {
+        mvc.perform(get("/items/1/availability")
+                        .param("from", "завтра")
+                        .param("to", "2030-01-02T10:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).getItemAvailability(any(), any(), any());
     }
 
     @SneakyThrows
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 
@@ -33,7 +34,8 @@ public class ItemRequestClientTest {
         when(restTemplateBuilder.requestFactory(any(Supplier.class))).thenReturn(restTemplateBuilder);
         when(restTemplateBuilder.build()).thenReturn(restTemplate);
 
-        itemRequestClient = new ItemRequestClient(serverUrl, restTemplateBuilder);
+        itemRequestClient = new ItemRequestClient(serverUrl, restTemplateBuilder,
+                Mockito.mock(ClientHttpRequestFactory.class), false);
     }
 
     @Test
@@ -91,11 +93,30 @@ public class ItemRequestClientTest {
                 any(Map.class)
         )).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> response = itemRequestClient.getAllRequests(userId, from, size);
+        ResponseEntity<Object> response = itemRequestClient.getAllRequests(userId, from, size, null);
 
         assertEquals(expectedResponse, response);
-        verify(restTemplate, times(1)).exchange(anyString(),
-                eq(HttpMethod.GET), any(), eq(Object.class), any(Map.class));
+        verify(restTemplate, times(1)).exchange(eq("/all?from={from}&size={size}"),
+                eq(HttpMethod.GET), any(), eq(Object.class), eq(Map.of("from", 0, "size", 10)));
+    }
+
+    @Test
+    void shouldGetAllRequestsAfterCursor() {
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Success");
+
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                any(),
+                eq(Object.class),
+                any(Map.class)
+        )).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> response = itemRequestClient.getAllRequests(1L, 0, 10, "cursor");
+
+        assertEquals(expectedResponse, response);
+        verify(restTemplate, times(1)).exchange(eq("/all?from={from}&size={size}&cursor={cursor}"),
+                eq(HttpMethod.GET), any(), eq(Object.class), eq(Map.of("from", 0, "size", 10, "cursor", "cursor")));
     }
 
     @Test
@@ -12,6 +12,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -70,7 +74,41 @@ public class ItemRequestGatewayControllerTest {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(itemRequestClient, times(1)).getAllRequests(1L, 0, 10);
+        verify(itemRequestClient, times(1)).getAllRequests(1L, 0, 10, null);
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllRequests_ShouldUseDefaultPageAndPassCursor() {
+        mvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-id", "1")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk());
+
+        verify(itemRequestClient, times(1)).getAllRequests(1L, 0, 10, "abc");
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllRequests_ShouldRejectInvalidPage() {
+        mvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-id", "1")
+                        .param("from", "-1")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemRequestClient, never()).getAllRequests(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllRequests_ShouldRejectTooLargePage() {
+        mvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-id", "1")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemRequestClient, never()).getAllRequests(anyLong(), anyInt(), anyInt(), any());
     }
 
     @SneakyThrows
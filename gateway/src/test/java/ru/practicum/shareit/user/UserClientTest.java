@@ -43,7 +43,8 @@ public class UserClientTest {
         when(builder.build())
                 .thenReturn(restTemplate);
 
-        userClient = new UserClient("http://localhost:8080", builder);
+        userClient = new UserClient("http://localhost:8080", builder,
+                Mockito.mock(ClientHttpRequestFactory.class), false);
     }
 
     @Test
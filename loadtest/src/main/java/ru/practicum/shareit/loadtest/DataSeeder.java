@@ -0,0 +1,230 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Заполняет базу сервера синтетическими пользователями, запросами, вещами, бронированиями и комментариями.
+ * Строки вставляются JDBC-пакетами, id берутся из последовательностей блоками по 50, как их выдаёт сервер
+ * (pooled-lo), поэтому данные можно добавлять к уже существующим. Бронирования одной вещи идут друг за другом
+ * без пересечений: половина в прошлом, половина в будущем.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataSeeder {
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int DAYS_PER_BOOKING = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestProperties properties;
+
+    public void seed() {
+        LoadTestProperties.Seed seed = properties.getSeed();
+        Random random = new Random(seed.getRandomSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        long started = System.nanoTime();
+
+        List<Long> users = insertUsers(seed.getUsers());
+        List<Long> requests = insertRequests(seed.getRequests(), users, random, now);
+        List<ItemRow> items = insertItems(seed.getItems(), users, requests, random);
+        List<BookingRow> pastBookings = insertBookings(seed.getBookings(), items, users, random, now);
+        int comments = insertComments(seed.getComments(), pastBookings, random, now);
+
+        log.info("База заполнена за {} с: пользователей {}, запросов {}, вещей {}, бронирований {}, комментариев {}",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started), users.size(), requests.size(),
+                items.size(), seed.getBookings(), comments);
+    }
+
+    private List<Long> insertUsers(int count) {
+        IdSequence ids = new IdSequence("users_seq");
+        Batch batch = new Batch("INSERT INTO users (id, name, email) VALUES (?, ?, ?)");
+        List<Long> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = ids.next();
+            batch.add(id, "Пользователь " + id, "loadtest-" + id + "@shareit.local");
+            users.add(id);
+        }
+        batch.flush();
+        return users;
+    }
+
+    private List<Long> insertRequests(int count, List<Long> users, Random random, LocalDateTime now) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        IdSequence ids = new IdSequence("requests_seq");
+        Batch batch = new Batch("INSERT INTO requests (id, description, requestor_id, created) VALUES (?, ?, ?, ?)");
+        List<Long> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = ids.next();
+            batch.add(id, "Нужен " + pick(Vocabulary.NOUNS, random).toLowerCase() + " на выходные",
+                    pick(users, random), Timestamp.valueOf(now.minusHours(random.nextInt(24 * 365))));
+            requests.add(id);
+        }
+        batch.flush();
+        return requests;
+    }
+
+    private List<ItemRow> insertItems(int count, List<Long> users, List<Long> requests, Random random) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        IdSequence ids = new IdSequence("items_seq");
+        Batch batch = new Batch("INSERT INTO items (id, name, description, available, owner_id, request_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        List<ItemRow> items = new ArrayList<>(count);
+        // вещи принадлежат примерно пятой части пользователей, у части владельцев их много
+        int owners = Math.max(1, users.size() / 5);
+        for (int i = 0; i < count; i++) {
+            long id = ids.next();
+            long ownerId = users.get(skewed(owners, random));
+            String noun = pick(Vocabulary.NOUNS, random);
+            String adjective = pick(Vocabulary.ADJECTIVES, random);
+            Long requestId = !requests.isEmpty() && random.nextInt(5) == 0 ? pick(requests, random) : null;
+            batch.add(id, noun + " " + adjective, noun + " " + adjective + ", в хорошем состоянии",
+                    random.nextInt(10) != 0, ownerId, requestId);
+            items.add(new ItemRow(id, ownerId));
+        }
+        batch.flush();
+        return items;
+    }
+
+    /**
+     * Вставляет бронирования и возвращает завершившиеся подтверждённые: по ним пишутся комментарии.
+     */
+    private List<BookingRow> insertBookings(int count, List<ItemRow> items, List<Long> users, Random random,
+                                            LocalDateTime now) {
+        if (items.isEmpty() || users.size() < 2) {
+            return List.of();
+        }
+        IdSequence ids = new IdSequence("bookings_seq");
+        Batch batch = new Batch("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        long spanDays = (long) Math.ceil((double) count / items.size()) * DAYS_PER_BOOKING;
+        LocalDateTime[] timelines = new LocalDateTime[items.size()];
+        List<BookingRow> pastBookings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int itemIndex = skewed(items.size(), random);
+            ItemRow item = items.get(itemIndex);
+            if (timelines[itemIndex] == null) {
+                timelines[itemIndex] = now.minusDays(spanDays / 2).minusHours(random.nextInt(24 * DAYS_PER_BOOKING));
+            }
+            LocalDateTime start = timelines[itemIndex].plusHours(random.nextInt(72));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(72));
+            timelines[itemIndex] = end;
+            long bookerId = pick(users, random);
+            if (bookerId == item.ownerId()) {
+                bookerId = users.get((users.indexOf(bookerId) + 1) % users.size());
+            }
+            String status = status(start, end, now, random);
+            long id = ids.next();
+            batch.add(id, Timestamp.valueOf(start), Timestamp.valueOf(end), item.id(), bookerId, status);
+            if (end.isBefore(now) && status.equals("APPROVED")) {
+                pastBookings.add(new BookingRow(item.id(), bookerId, end));
+            }
+        }
+        batch.flush();
+        return pastBookings;
+    }
+
+    private int insertComments(int count, List<BookingRow> pastBookings, Random random, LocalDateTime now) {
+        if (pastBookings.isEmpty()) {
+            return 0;
+        }
+        IdSequence ids = new IdSequence("comments_seq");
+        Batch batch = new Batch("INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)");
+        for (int i = 0; i < count; i++) {
+            BookingRow booking = pick(pastBookings, random);
+            LocalDateTime created = booking.end().plusHours(1 + random.nextInt(48));
+            batch.add(ids.next(), pick(Vocabulary.REVIEWS, random), booking.itemId(), booking.bookerId(),
+                    Timestamp.valueOf(created.isAfter(now) ? now : created));
+        }
+        batch.flush();
+        return count;
+    }
+
+    private static String status(LocalDateTime start, LocalDateTime end, LocalDateTime now, Random random) {
+        int roll = random.nextInt(100);
+        if (end.isBefore(now)) {
+            return roll < 85 ? "APPROVED" : roll < 95 ? "REJECTED" : "CANCELED";
+        }
+        if (start.isAfter(now)) {
+            return roll < 40 ? "WAITING" : "APPROVED";
+        }
+        return "APPROVED";
+    }
+
+    /**
+     * Индекс от 0 до bound со смещением к началу: небольшая часть вещей и владельцев получает большую часть данных.
+     */
+    private static int skewed(int bound, Random random) {
+        double value = random.nextDouble();
+        return (int) (bound * value * value);
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private record ItemRow(long id, long ownerId) {
+    }
+
+    private record BookingRow(long itemId, long bookerId, LocalDateTime end) {
+    }
+
+    /**
+     * Выдаёт id блоками: nextval возвращает первый id блока, следующие 49 принадлежат ему же.
+     */
+    private final class IdSequence {
+        private final String sequence;
+        private long next;
+        private long limit;
+
+        private IdSequence(String sequence) {
+            this.sequence = sequence;
+        }
+
+        private long next() {
+            if (next == limit) {
+                next = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+                limit = next + ALLOCATION_SIZE;
+            }
+            return next++;
+        }
+    }
+
+    private final class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private Batch(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... values) {
+            rows.add(values);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
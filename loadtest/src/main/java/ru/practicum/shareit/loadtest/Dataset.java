@@ -0,0 +1,15 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Id из базы, по которым строятся запросы нагрузки. Ожидающие бронирования расходуются:
+ * каждое подтверждается один раз.
+ */
+public record Dataset(List<Long> users, List<Long> owners, List<Long> bookers, List<Long> items,
+                      Queue<WaitingBooking> waitingBookings) {
+
+    public record WaitingBooking(long id, long ownerId) {
+    }
+}
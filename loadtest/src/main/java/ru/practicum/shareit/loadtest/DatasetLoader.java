@@ -0,0 +1,36 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetLoader {
+    private final JdbcTemplate jdbcTemplate;
+
+    public Dataset load() {
+        List<Long> users = jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
+        List<Long> owners = jdbcTemplate.queryForList("SELECT DISTINCT owner_id FROM items", Long.class);
+        List<Long> bookers = jdbcTemplate.queryForList("SELECT DISTINCT booker_id FROM bookings", Long.class);
+        List<Long> items = jdbcTemplate.queryForList("SELECT id FROM items", Long.class);
+        List<Dataset.WaitingBooking> waiting = jdbcTemplate.query("SELECT b.id, i.owner_id FROM bookings b "
+                        + "JOIN items i ON i.id = b.item_id WHERE b.status = 'WAITING' AND b.start_date > ?",
+                (rs, rowNum) -> new Dataset.WaitingBooking(rs.getLong(1), rs.getLong(2)),
+                Timestamp.valueOf(LocalDateTime.now()));
+        log.info("Загружены данные для нагрузки: пользователей {}, владельцев {}, арендаторов {}, вещей {}, "
+                + "ожидающих бронирований {}", users.size(), owners.size(), bookers.size(), items.size(), waiting.size());
+        if (users.isEmpty() || items.isEmpty()) {
+            throw new IllegalStateException("В базе нет пользователей или вещей, сначала запустите этап SEED");
+        }
+        return new Dataset(users, owners, bookers.isEmpty() ? users : bookers, items,
+                new ConcurrentLinkedQueue<>(waiting));
+    }
+}
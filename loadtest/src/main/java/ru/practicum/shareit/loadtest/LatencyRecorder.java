@@ -0,0 +1,62 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Задержки ответов одной операции в наносекундах. Каждый клиент пишет в свой экземпляр,
+ * в конце теста они объединяются, поэтому класс не потокобезопасен.
+ */
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private boolean sorted = true;
+
+    public void record(long nanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        sorted = false;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sorted = false;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int errors() {
+        return errors;
+    }
+
+    /**
+     * Перцентиль методом ближайшего ранга; для пустого набора 0.
+     */
+    public long percentile(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percent / 100 * count);
+        return latencies[Math.clamp(rank - 1, 0, count - 1)];
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+}
@@ -0,0 +1,192 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Закрытая модель нагрузки: concurrency клиентов на виртуальных потоках отправляют запросы к гейтвею
+ * по смеси операций, каждый следующий запрос сразу после ответа на предыдущий.
+ * Ответ с кодом 4xx или 5xx и сетевая ошибка считаются ошибками.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadRunner {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final List<String> BOOKING_STATES = List.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING",
+            "REJECTED");
+
+    private final LoadTestProperties properties;
+
+    public Map<Operation, LatencyRecorder> run(Dataset dataset) throws InterruptedException {
+        LoadTestProperties.Run run = properties.getRun();
+        Mix mix = new Mix(run.getMix());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(run.getRequestTimeout())
+                .build();
+        long warmupEnd = System.nanoTime() + run.getWarmup().toNanos();
+        long end = warmupEnd + run.getDuration().toNanos();
+        log.info("Нагрузка на {}: клиентов {}, прогрев {}, замер {}", run.getGatewayUrl(), run.getConcurrency(),
+                run.getWarmup(), run.getDuration());
+
+        List<Map<Operation, LatencyRecorder>> results = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < run.getConcurrency(); i++) {
+                Random random = new Random(run.getRandomSeed() + i);
+                executor.submit(() -> results.add(drive(client, dataset, mix, random, warmupEnd, end)));
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        results.forEach(result -> result.forEach((operation, recorder) ->
+                merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder)));
+        report(merged, run.getDuration());
+        return merged;
+    }
+
+    private Map<Operation, LatencyRecorder> drive(HttpClient client, Dataset dataset, Mix mix, Random random,
+                                                  long warmupEnd, long end) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < end) {
+            Operation operation = mix.next(random);
+            Optional<HttpRequest> request = request(operation, dataset, random);
+            if (request.isEmpty()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long finished = System.nanoTime();
+            if (start >= warmupEnd) {
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder()).record(finished - start, error);
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * Строит запрос операции; для подтверждения пусто, когда ожидающие бронирования закончились.
+     */
+    private Optional<HttpRequest> request(Operation operation, Dataset dataset, Random random) {
+        return switch (operation) {
+            case SEARCH -> Optional.of(get("/items/search?text="
+                    + URLEncoder.encode(pick(Vocabulary.NOUNS, random), StandardCharsets.UTF_8)
+                    + "&from=0&size=20", pick(dataset.users(), random)));
+            case OWNER_ITEMS -> Optional.of(get("/items", pick(dataset.owners(), random)));
+            case ITEM -> Optional.of(get("/items/" + pick(dataset.items(), random), pick(dataset.users(), random)));
+            case USER_BOOKINGS -> Optional.of(get("/bookings?state=" + pick(BOOKING_STATES, random)
+                    + "&from=0&size=20", pick(dataset.bookers(), random)));
+            case OWNER_BOOKINGS -> Optional.of(get("/bookings/owner?state=" + pick(BOOKING_STATES, random)
+                    + "&from=0&size=20", pick(dataset.owners(), random)));
+            case APPROVE -> Optional.ofNullable(dataset.waitingBookings().poll())
+                    .map(booking -> builder("/bookings/" + booking.id() + "?approved=" + (random.nextInt(4) != 0),
+                            booking.ownerId())
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                            .build());
+        };
+    }
+
+    private HttpRequest get(String path, long userId) {
+        return builder(path, userId).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path, long userId) {
+        return HttpRequest.newBuilder(URI.create(properties.getRun().getGatewayUrl() + path))
+                .timeout(properties.getRun().getRequestTimeout())
+                .header(USER_HEADER, String.valueOf(userId));
+    }
+
+    private static void report(Map<Operation, LatencyRecorder> results, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        StringBuilder report = new StringBuilder(String.format("%n%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "операция", "запросов", "ошибок", "rps", "p50, мс", "p90, мс", "p99, мс", "max, мс"));
+        LatencyRecorder total = new LatencyRecorder();
+        results.forEach((operation, recorder) -> {
+            report.append(row(operation.getEndpoint(), recorder, seconds));
+            total.merge(recorder);
+        });
+        report.append(row("всего", total, seconds));
+        log.info("Результаты нагрузки:{}", report);
+    }
+
+    private static String row(String name, LatencyRecorder recorder, double seconds) {
+        return String.format("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, recorder.count(),
+                recorder.errors(), recorder.count() / seconds, millis(recorder.percentile(50)),
+                millis(recorder.percentile(90)), millis(recorder.percentile(99)), millis(recorder.max()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Выбор операции с вероятностью, пропорциональной весу.
+     */
+    private static final class Mix {
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        private Mix(Map<Operation, Integer> weights) {
+            List<Operation> selected = weights.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (selected.isEmpty()) {
+                throw new IllegalArgumentException("В смеси нагрузки нет операций с положительным весом");
+            }
+            operations = selected.toArray(Operation[]::new);
+            cumulativeWeights = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += weights.get(operations[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        private Operation next(Random random) {
+            int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException("Вес вне диапазона: " + roll);
+        }
+    }
+}
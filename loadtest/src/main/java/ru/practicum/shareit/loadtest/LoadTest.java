@@ -0,0 +1,16 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class LoadTest {
+
+    public static void main(String[] args) {
+        SpringApplication.run(LoadTest.class, args);
+    }
+
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Настройки нагрузочного теста: объёмы генерируемых данных и профиль нагрузки на гейтвей.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+    /**
+     * Этапы, которые выполняются при запуске. Заполнять базу нужно до старта сервера:
+     * поисковый индекс сервера строится при запуске.
+     */
+    private Set<Phase> phases = EnumSet.of(Phase.RUN);
+    private Seed seed = new Seed();
+    private Run run = new Run();
+
+    public enum Phase {
+        SEED, RUN
+    }
+
+    @Getter
+    @Setter
+    public static class Seed {
+        private int users = 1_000;
+        private int requests = 500;
+        private int items = 5_000;
+        private int bookings = 20_000;
+        private int comments = 5_000;
+        /**
+         * Зерно генератора: при одинаковых настройках генерируются одинаковые данные.
+         */
+        private long randomSeed = 42;
+    }
+
+    @Getter
+    @Setter
+    public static class Run {
+        private String gatewayUrl = "http://localhost:8080";
+        /**
+         * Число одновременно работающих клиентов; каждый отправляет следующий запрос сразу после ответа.
+         */
+        private int concurrency = 32;
+        /**
+         * Запросы за это время не попадают в отчёт.
+         */
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        /**
+         * Относительные веса операций в смеси запросов; операция с весом 0 не выполняется.
+         */
+        private Map<Operation, Integer> mix = defaultMix();
+        private long randomSeed = 42;
+
+        private static Map<Operation, Integer> defaultMix() {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            mix.put(Operation.SEARCH, 30);
+            mix.put(Operation.OWNER_ITEMS, 15);
+            mix.put(Operation.ITEM, 20);
+            mix.put(Operation.USER_BOOKINGS, 15);
+            mix.put(Operation.OWNER_BOOKINGS, 15);
+            mix.put(Operation.APPROVE, 5);
+            return mix;
+        }
+    }
+}
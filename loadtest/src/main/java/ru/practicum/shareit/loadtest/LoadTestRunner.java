@@ -0,0 +1,28 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Выполняет этапы из loadtest.phases: сначала заполнение базы, затем нагрузку.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+    private final LoadTestProperties properties;
+    private final DataSeeder dataSeeder;
+    private final DatasetLoader datasetLoader;
+    private final LoadRunner loadRunner;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (properties.getPhases().contains(LoadTestProperties.Phase.SEED)) {
+            dataSeeder.seed();
+        }
+        if (properties.getPhases().contains(LoadTestProperties.Phase.RUN)) {
+            loadRunner.run(datasetLoader.load());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Операции смеси нагрузки; endpoint используется как название строки в отчёте.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    SEARCH("GET /items/search"),
+    OWNER_ITEMS("GET /items"),
+    ITEM("GET /items/{itemId}"),
+    USER_BOOKINGS("GET /bookings"),
+    OWNER_BOOKINGS("GET /bookings/owner"),
+    APPROVE("PATCH /bookings/{bookingId}");
+
+    private final String endpoint;
+}
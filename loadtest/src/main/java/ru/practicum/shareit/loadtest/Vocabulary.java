@@ -0,0 +1,19 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * Слова для названий и описаний вещей. Поиск при нагрузке идёт по тем же словам, поэтому находит вещи.
+ */
+@UtilityClass
+class Vocabulary {
+    final List<String> NOUNS = List.of("Дрель", "Перфоратор", "Шуруповёрт", "Лобзик", "Болгарка",
+            "Стремянка", "Палатка", "Велосипед", "Самокат", "Лыжи", "Сноуборд", "Байдарка", "Проектор", "Колонка",
+            "Фотоаппарат", "Штатив", "Мангал", "Газонокосилка", "Пылесос", "Миксер");
+    final List<String> ADJECTIVES = List.of("ударная", "аккумуляторный", "складной", "туристическая",
+            "горный", "детский", "профессиональный", "компактный", "мощный", "лёгкий", "новый", "надёжный");
+    final List<String> REVIEWS = List.of("Всё работает, спасибо", "Вещь в отличном состоянии",
+            "Вернул вовремя, рекомендую", "Немного поцарапана, но работает", "Отличный владелец");
+}
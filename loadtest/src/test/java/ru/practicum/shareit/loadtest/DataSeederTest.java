@@ -0,0 +1,56 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "loadtest.phases=",
+        "loadtest.seed.users=100",
+        "loadtest.seed.requests=20",
+        "loadtest.seed.items=300",
+        "loadtest.seed.bookings=1200",
+        "loadtest.seed.comments=200"
+})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class DataSeederTest {
+    private final DataSeeder dataSeeder;
+    private final DatasetLoader datasetLoader;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testSeedFillsAllTablesWithoutOverlapsAndAdvancesSequences() {
+        dataSeeder.seed();
+
+        assertEquals(100, count("users"));
+        assertEquals(20, count("requests"));
+        assertEquals(300, count("items"));
+        assertEquals(1200, count("bookings"));
+        assertEquals(200, count("comments"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings b JOIN bookings o "
+                + "ON o.item_id = b.item_id AND o.id < b.id AND o.start_date < b.end_date AND b.start_date < o.end_date "
+                + "WHERE b.status IN ('WAITING', 'APPROVED') AND o.status IN ('WAITING', 'APPROVED')", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings b JOIN items i "
+                + "ON i.id = b.item_id WHERE b.booker_id = i.owner_id", Long.class));
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        assertTrue(jdbcTemplate.queryForObject("SELECT nextval('users_seq')", Long.class) > maxUserId);
+
+        Dataset dataset = datasetLoader.load();
+        assertEquals(100, dataset.users().size());
+        assertEquals(300, dataset.items().size());
+        assertFalse(dataset.waitingBookings().isEmpty());
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
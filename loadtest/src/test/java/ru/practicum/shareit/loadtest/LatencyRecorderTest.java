@@ -0,0 +1,30 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void testPercentilesUseNearestRankAcrossMergedRecorders() {
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        for (int i = 1; i <= 2_000; i++) {
+            (i % 2 == 0 ? first : second).record(i, i > 1_990);
+        }
+
+        first.merge(second);
+
+        assertEquals(2_000, first.count());
+        assertEquals(10, first.errors());
+        assertEquals(1_000, first.percentile(50));
+        assertEquals(1_980, first.percentile(99));
+        assertEquals(2_000, first.max());
+    }
+
+    @Test
+    void testEmptyRecorderReturnsZero() {
+        assertEquals(0, new LatencyRecorder().percentile(99));
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadRunnerTest {
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            int status = exchange.getRequestMethod().equals("PATCH") ? 400 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testRunRecordsEveryOperationAndCountsErrors() throws InterruptedException {
+        LoadTestProperties properties = new LoadTestProperties();
+        properties.getRun().setGatewayUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getRun().setConcurrency(4);
+        properties.getRun().setWarmup(Duration.ZERO);
+        properties.getRun().setDuration(Duration.ofMillis(500));
+        Dataset dataset = new Dataset(List.of(1L, 2L), List.of(1L), List.of(2L), List.of(10L, 11L),
+                new ConcurrentLinkedQueue<>(List.of(new Dataset.WaitingBooking(100L, 1L))));
+
+        Map<Operation, LatencyRecorder> results = new LoadRunner(properties).run(dataset);
+
+        assertEquals(EnumSet.allOf(Operation.class), results.keySet());
+        assertEquals(1, results.get(Operation.APPROVE).count());
+        assertEquals(1, results.get(Operation.APPROVE).errors());
+        assertTrue(results.get(Operation.SEARCH).count() > 0);
+        assertEquals(0, results.get(Operation.SEARCH).errors());
+    }
+}
@@ -2,10 +2,13 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.booking.dto.BookingDtoIn;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.event.BookingEventBus;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.utility.Create;
@@ -18,6 +21,7 @@ import java.util.List;
 @RequestMapping(path = "/bookings")
 public class BookingController {
     private final BookingService bookingService;
+    private final BookingEventBus bookingEventBus;
 
     @PostMapping
     public BookingDtoOut addNewBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -34,6 +38,12 @@ public class BookingController {
         return bookingService.approveBooking(userId, bookingId, approved);
     }
 
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getEvents(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("подписка на события бронирований пользователя с ID: {}", userId);
+        return bookingEventBus.subscribe(userId);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDtoOut getBookingById(@PathVariable Long bookingId, @RequestHeader("X-Sharer-User-Id") Long userId) {
         log.info("запрос на получение бронирования с ID: {} для пользователя с ID: {}", bookingId, userId);
@@ -42,17 +52,21 @@ public class BookingController {
 
     @GetMapping
     public List<BookingDtoOut> getAllUserBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                 @RequestParam(defaultValue = "ALL") String state) {
+                                                 @RequestParam(defaultValue = "ALL") String state,
+                                                 @RequestParam(defaultValue = "0") Integer from,
+                                                 @RequestParam(defaultValue = "10") Integer size) {
         State stateEnum = State.fromString(state.toUpperCase());
-        return bookingService.getAllUserBooking(userId, stateEnum);
+        return bookingService.getAllUserBooking(userId, stateEnum, from, size);
     }
 
     @GetMapping("/owner")
     public List<BookingDtoOut> getAllOwnerBooking(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                  @RequestParam(defaultValue = "ALL") String state) {
+                                                  @RequestParam(defaultValue = "ALL") String state,
+                                                  @RequestParam(defaultValue = "0") Integer from,
+                                                  @RequestParam(defaultValue = "10") Integer size) {
         log.info("запрос на Получение списка бронирований для всех вещей текущего пользователя с ID: {} ", ownerId);
         State steteEnum = State.fromString(state);
-        return bookingService.getAllOwnerBooking(ownerId, steteEnum);
+        return bookingService.getAllOwnerBooking(ownerId, steteEnum, from, size);
     }
 
 }
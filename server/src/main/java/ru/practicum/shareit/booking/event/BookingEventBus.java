@@ -0,0 +1,154 @@
+package ru.practicum.shareit.booking.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Шина событий бронирований в памяти процесса. Подписчики — открытые SSE-потоки пользователей:
+ * событие о смене статуса получают арендатор и владелец вещи после коммита транзакции, в которой статус сменился.
+ * В каждый поток периодически отправляется комментарий: он не дает прокси и гейтвею закрыть простаивающее
+ * соединение и позволяет найти отключившихся клиентов. Подписки живут только в этом экземпляре сервера.
+ * <p>
+ * Запись в поток выполняется на applicationTaskExecutor, а не в потоке, закоммитившем транзакцию, или в потоке
+ * планировщика: медленный клиент не задерживает ни запрос, сменивший статус, ни остальных подписчиков.
+ * События одного потока отправляются по очереди, в порядке публикации. Если событие не записано
+ * за shareit.bookings.events.send-timeout, поток закрывается с ошибкой, и клиент переподключается.
+ */
+@Slf4j
+@Component
+public class BookingEventBus {
+    public static final String EVENT_NAME = "booking";
+
+    private final UserService userService;
+    private final Executor executor;
+    private final long sendTimeoutMillis;
+    private final Supplier<SseEmitter> emitterFactory;
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BookingEventBus(UserService userService,
+                           @Qualifier("applicationTaskExecutor") Executor executor,
+                           @Value("${shareit.bookings.events.timeout:PT30M}") Duration timeout,
+                           @Value("${shareit.bookings.events.send-timeout:PT5S}") Duration sendTimeout) {
+        this(userService, executor, sendTimeout, () -> new SseEmitter(timeout.toMillis()));
+    }
+
+    BookingEventBus(UserService userService, Executor executor, Duration sendTimeout,
+                    Supplier<SseEmitter> emitterFactory) {
+        this.userService = userService;
+        this.executor = executor;
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.emitterFactory = emitterFactory;
+    }
+
+    /**
+     * Открывает поток событий пользователя. По истечении shareit.bookings.events.timeout поток закрывается,
+     * и клиент переподключается.
+     */
+    public SseEmitter subscribe(Long userId) {
+        userService.getUserById(userId);
+        Subscriber subscriber = new Subscriber(userId, emitterFactory.get());
+        subscribers.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        log.debug("Пользователь с Id {} подписался на события бронирований", userId);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(BookingStatusChangedEvent event) {
+        Stream.of(event.booking().getBooker().getId(), event.ownerId())
+                .distinct()
+                .forEach(userId -> subscribers.getOrDefault(userId, Set.of()).forEach(subscriber ->
+                        subscriber.send(SseEmitter.event()
+                                .name(EVENT_NAME)
+                                .data(event.booking(), MediaType.APPLICATION_JSON))));
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.bookings.events.heartbeat:PT5S}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers ->
+                userSubscribers.forEach(subscriber -> subscriber.send(SseEmitter.event().comment("ping"))));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    /**
+     * Поток одного подписчика. Каждая отправка ставится в цепочку за предыдущей, поэтому события не
+     * обгоняют друг друга и не ждут на блокировке эмиттера в чужом потоке.
+     */
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+        private boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void send(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            last = last.thenRunAsync(() -> write(event), executor)
+                    .orTimeout(sendTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .whenCompleteAsync((ignored, e) -> {
+                        if (e != null) {
+                            close(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                        }
+                    }, executor);
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void close(Throwable e) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            log.debug("Поток событий пользователя с Id {} закрыт: {}", userId, e.toString());
+            unsubscribe(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.event;
+
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+
+/**
+ * Бронирование создано или сменило статус; событие получают арендатор и владелец вещи.
+ */
+public record BookingStatusChangedEvent(BookingDtoOut booking, Long ownerId) {
+}
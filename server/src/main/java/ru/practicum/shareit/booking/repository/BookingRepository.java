@@ -1,15 +1,25 @@
 package ru.practicum.shareit.booking.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.booking.model.Booking;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // вещь с владельцем нужна для проверки прав, бронирующий - для ответа
+    @Override
+    @EntityGraph(attributePaths = {"item", "item.owner", "booker"})
+    Optional<Booking> findById(Long id);
+
     // nextBooking
     Optional<Booking> findFirstByItemIdAndStartAfterAndStatus(Long itemId, LocalDateTime localDateTime,
                                                               Booking.BookingStatus status, Sort end);
@@ -18,25 +28,53 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Optional<Booking> findFirstByItemIdAndStartLessThanEqualAndStatus(Long itemId, LocalDateTime localDateTime,
                                                                       Booking.BookingStatus status, Sort end);
 
-    List<Booking> findByBookerId(Long userId);
+    // lastBooking и nextBooking для набора вещей одним запросом
+    @Query(value = "SELECT * FROM bookings " +
+            "WHERE id IN (" +
+            "SELECT ranked.id FROM (" +
+            "SELECT b.id, ROW_NUMBER() OVER (" +
+            "PARTITION BY b.item_id, b.start_date <= :now " +
+            "ORDER BY CASE WHEN b.start_date <= :now THEN b.end_date END DESC, b.end_date) AS rn " +
+            "FROM bookings AS b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = 'APPROVED') AS ranked " +
+            "WHERE ranked.rn = 1)", nativeQuery = true)
+    List<Booking> findLastAndNextApprovedByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                                   @Param("now") LocalDateTime now);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerId(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerIdAndStartBeforeAndEndAfter(Long userId, LocalDateTime start, LocalDateTime end,
+                                                          Pageable pageable);
 
-    List<Booking> findByBookerIdAndStartBeforeAndEndAfter(Long userId, LocalDateTime start, LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerIdAndEndBefore(Long userId, LocalDateTime end, Pageable pageable);
 
-    List<Booking> findByBookerIdAndEndBefore(Long userId, LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerIdAndStartAfter(Long userId, LocalDateTime start, Pageable pageable);
 
-    List<Booking> findByBookerIdAndStartAfter(Long userId, LocalDateTime start);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerIdAndStatus(Long userId, Booking.BookingStatus status, Pageable pageable);
 
-    List<Booking> findByBookerIdAndStatus(Long userId, Booking.BookingStatus status);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerId(Long ownerId, Pageable pageable);
 
-    List<Booking> findByItemOwnerId(Long ownerId);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfter(Long ownerId, LocalDateTime start, LocalDateTime end,
+                                                             Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfter(Long ownerId, LocalDateTime start, LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerIdAndEndBefore(Long ownerId, LocalDateTime end, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndEndBefore(Long ownerId, LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerIdAndStartAfter(Long ownerId, LocalDateTime start, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartAfter(Long ownerId, LocalDateTime start);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerIdAndStatus(Long ownerId, Booking.BookingStatus status, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStatus(Long ownerId, Booking.BookingStatus status);
+    List<Booking> findAllByItemIdAndStatusInAndEndAfter(Long itemId, Collection<Booking.BookingStatus> statuses,
+                                                         LocalDateTime time);
 
     Booking findByBookerIdAndItemIdAndStatusAndEndBefore(
             Long bookerId, Long itemId, Booking.BookingStatus status, LocalDateTime time);
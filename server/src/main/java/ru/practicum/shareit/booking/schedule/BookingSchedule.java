@@ -0,0 +1,258 @@
+package ru.practicum.shareit.booking.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Расписание вещей в памяти процесса: для каждой вещи дерево интервалов её бронирований
+ * в статусах WAITING и APPROVED и, если запрашивалась доступность вещи, почасовой календарь занятости,
+ * который обновляется вместе с деревом. Календарь покрывает горизонт от начала текущего дня на
+ * MAX_AVAILABILITY_DAYS дней вперёд; доступность за пределами горизонта считается по дереву только для
+ * запрошенного периода.
+ * Расписание загружается из базы при первом обращении к вещи и хранится в кэше Caffeine с размером и временем
+ * жизни из shareit.bookings.schedule.spec. Загружаются только бронирования, которые ещё не закончились: с прошлыми
+ * новое бронирование не пересечётся, а их число у вещи со временем только растёт. Запрос к базе выполняется
+ * вне блокировок кэша, а расписание вещи защищено ReentrantLock, а не synchronized, чтобы не закреплять
+ * виртуальный поток за потоком-носителем. Бронирования, записанные в обход этого процесса (другим экземпляром
+ * сервера, сидером, SQL), попадают в расписание, когда запись вещи истекает и загружается заново; до этого
+ * расписание может ошибаться в обе стороны, поэтому окончательно пересечения исключает ограничение
+ * bookings_no_overlap в PostgreSQL.
+ * Проверка пересечения и добавление бронирования выполняются атомарно, поэтому два одновременных
+ * бронирования одной вещи на один период в пределах процесса не проходят.
+ */
+@Slf4j
+@Component
+public class BookingSchedule {
+    public static final List<Booking.BookingStatus> ACTIVE_STATUSES =
+            List.of(Booking.BookingStatus.WAITING, Booking.BookingStatus.APPROVED);
+    public static final int MAX_AVAILABILITY_DAYS = 366;
+
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, ItemSchedule> schedules;
+    private final Clock clock;
+
+    @Autowired
+    public BookingSchedule(BookingRepository bookingRepository,
+                           @Value("${shareit.bookings.schedule.spec:maximumSize=10000,expireAfterWrite=1m}") String spec) {
+        this(bookingRepository, spec, Ticker.systemTicker(), Clock.systemDefaultZone());
+    }
+
+    BookingSchedule(BookingRepository bookingRepository, String spec, Ticker ticker, Clock clock) {
+        this.bookingRepository = bookingRepository;
+        this.schedules = Caffeine.from(spec).ticker(ticker).build();
+        this.clock = clock;
+    }
+
+    /**
+     * Возвращает любое бронирование вещи, занимающее часть периода [start, end).
+     */
+    public Optional<IntervalTree.Interval> findOverlap(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return schedule(itemId).locked(schedule -> schedule.tree.findOverlap(start, end));
+    }
+
+    /**
+     * Возвращает занятые и свободные часы вещи в периоде [from, to), не обращаясь к таблице бронирований.
+     * Период не может быть длиннее MAX_AVAILABILITY_DAYS дней.
+     */
+    public HourCalendar.Availability availability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (from.plusDays(MAX_AVAILABILITY_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("Период длиннее " + MAX_AVAILABILITY_DAYS + " дней: " + from + " - " + to);
+        }
+        return schedule(itemId).locked(schedule -> {
+            HourCalendar calendar = schedule.calendar(LocalDate.now(clock));
+            if (calendar.covers(from, to)) {
+                return calendar.availability(from, to);
+            }
+            HourCalendar window = new HourCalendar(from.truncatedTo(ChronoUnit.HOURS), to.plusHours(1));
+            schedule.tree.findAllOverlaps(from, to.plusHours(1))
+                    .forEach(interval -> window.mark(interval.start(), interval.end()));
+            return window.availability(from, to);
+        });
+    }
+
+    /**
+     * Добавляет бронирование в расписание вещи, если оно не пересекается с уже занятыми периодами.
+     * Если транзакция будет откатана, бронирование убирается из расписания.
+     *
+     * @return пересекающееся бронирование, если период занят; в этом случае расписание не меняется
+     */
+    public Optional<IntervalTree.Interval> book(Long itemId, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        Optional<IntervalTree.Interval> overlap = schedule(itemId).locked(schedule -> {
+            Optional<IntervalTree.Interval> found = schedule.tree.findAllOverlaps(start, end).stream()
+                    .filter(interval -> interval.id() != bookingId)
+                    .findFirst();
+            if (found.isPresent()) {
+                // расписание могло загрузиться уже с этим, ещё не закоммиченным бронированием
+                schedule.remove(bookingId);
+            } else {
+                schedule.insert(bookingId, start, end);
+            }
+            return found;
+        });
+        if (overlap.isEmpty()) {
+            afterRollback(() -> remove(itemId, bookingId));
+        }
+        return overlap;
+    }
+
+    /**
+     * Освобождает период бронирования. Внутри транзакции изменение применяется после коммита.
+     */
+    public void release(Long itemId, Long bookingId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(itemId, bookingId);
+                }
+            });
+        } else {
+            remove(itemId, bookingId);
+        }
+    }
+
+    /**
+     * Возвращает занятые периоды вещи, пересекающиеся с [start, end), по возрастанию начала.
+     */
+    public List<IntervalTree.Interval> busy(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return schedule(itemId).locked(schedule -> schedule.tree.findAllOverlaps(start, end));
+    }
+
+    /**
+     * Число вещей, расписание которых сейчас загружено.
+     */
+    long size() {
+        schedules.cleanUp();
+        return schedules.estimatedSize();
+    }
+
+    /**
+     * Построен ли календарь занятости вещи; вещь, расписание которой не загружено, календаря не имеет.
+     */
+    boolean hasCalendar(Long itemId) {
+        ItemSchedule schedule = schedules.getIfPresent(itemId);
+        return schedule != null && schedule.locked(ItemSchedule::hasCalendar);
+    }
+
+    private void remove(Long itemId, Long bookingId) {
+        ItemSchedule schedule = schedules.getIfPresent(itemId);
+        if (schedule != null) {
+            schedule.update(loaded -> loaded.remove(bookingId));
+        }
+    }
+
+    /**
+     * Загружает расписание вне Caffeine: get с функцией загрузки держит блокировку корзины хеш-таблицы
+     * на всё время запроса к базе. Если две загрузки одной вещи пересеклись, остаётся первая сохранённая.
+     */
+    private ItemSchedule schedule(Long itemId) {
+        ItemSchedule schedule = schedules.getIfPresent(itemId);
+        if (schedule != null) {
+            return schedule;
+        }
+        ItemSchedule loaded = load(itemId);
+        ItemSchedule existing = schedules.asMap().putIfAbsent(itemId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private ItemSchedule load(Long itemId) {
+        ItemSchedule loaded = new ItemSchedule();
+        bookingRepository.findAllByItemIdAndStatusInAndEndAfter(itemId, ACTIVE_STATUSES, LocalDateTime.now(clock))
+                .forEach(booking -> loaded.insert(booking.getId(), booking.getStart(), booking.getEnd()));
+        log.debug("Загружено расписание вещи с Id {}, бронирований: {}", itemId, loaded.tree.size());
+        return loaded;
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static final class ItemSchedule {
+        private final Lock lock = new ReentrantLock();
+        private final IntervalTree tree = new IntervalTree();
+        /**
+         * Строится по дереву при первом запросе доступности вещи: вещам, для которых проверяют только пересечения,
+         * календарь не нужен. Живёт и вытесняется вместе с записью вещи в кэше.
+         */
+        private HourCalendar calendar;
+
+        private void insert(long bookingId, LocalDateTime start, LocalDateTime end) {
+            tree.insert(bookingId, start, end);
+            if (calendar != null) {
+                calendar.mark(start, end);
+            }
+        }
+
+        private HourCalendar calendar(LocalDate today) {
+            if (calendar == null) {
+                LocalDateTime from = today.atStartOfDay();
+                // запас в день: период длиной MAX_AVAILABILITY_DAYS может начинаться в любой час текущего дня
+                LocalDateTime to = today.plusDays(MAX_AVAILABILITY_DAYS + 1L).atStartOfDay();
+                calendar = new HourCalendar(from, to);
+                tree.findAllOverlaps(from, to).forEach(interval -> calendar.mark(interval.start(), interval.end()));
+            }
+            return calendar;
+        }
+
+        private void remove(long bookingId) {
+            tree.remove(bookingId).ifPresent(removed -> {
+                if (calendar == null) {
+                    return;
+                }
+                LocalDateTime from = removed.start().toLocalDate().atStartOfDay();
+                LocalDateTime to = removed.end().toLocalDate().plusDays(1).atStartOfDay();
+                calendar.rebuild(removed.start(), removed.end(), tree.findAllOverlaps(from, to));
+            });
+        }
+
+        private boolean hasCalendar() {
+            return calendar != null;
+        }
+
+        private <T> T locked(Function<ItemSchedule, T> action) {
+            lock.lock();
+            try {
+                return action.apply(this);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void update(Consumer<ItemSchedule> action) {
+            locked(schedule -> {
+                action.accept(schedule);
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Календарь занятости вещи с точностью до часа: для каждого дня хранится маска из 24 бит,
+ * бит часа установлен, если этот час хотя бы частично занят бронированием. Дни без бронирований не хранятся.
+ * Календарь покрывает только свой горизонт [from, to): часть бронирования за его пределами не отмечается,
+ * поэтому даже бронирование на тысячи лет занимает не больше дней, чем горизонт.
+ * Класс не потокобезопасен.
+ */
+public class HourCalendar {
+    private static final int HOURS_PER_DAY = 24;
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final NavigableMap<LocalDate, Integer> busyHours = new TreeMap<>();
+
+    public HourCalendar(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Отмечает занятыми часы периода [start, end), попадающие в горизонт календаря.
+     */
+    public void mark(LocalDateTime start, LocalDateTime end) {
+        forEachDay(max(start, from), min(end, to),
+                (day, mask) -> busyHours.merge(day, mask, (current, added) -> current | added));
+    }
+
+    /**
+     * Лежит ли период [start, end), расширенный до целых часов, внутри горизонта календаря.
+     */
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        return !start.truncatedTo(ChronoUnit.HOURS).isBefore(from) && !roundUpToHour(end).isAfter(to);
+    }
+
+    /**
+     * Число дней, для которых хранится маска занятости.
+     */
+    int days() {
+        return busyHours.size();
+    }
+
+    /**
+     * Пересчитывает дни, которые задевает период [start, end), по оставшимся бронированиям.
+     * Используется после удаления бронирования: час может оставаться занятым соседним бронированием.
+     */
+    public void rebuild(LocalDateTime start, LocalDateTime end, Collection<IntervalTree.Interval> remaining) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        LocalDateTime from = start.toLocalDate().atStartOfDay();
+        LocalDateTime to = end.minusNanos(1).toLocalDate().plusDays(1).atStartOfDay();
+        busyHours.subMap(from.toLocalDate(), true, to.toLocalDate(), false).clear();
+        remaining.forEach(interval -> mark(max(interval.start(), from), min(interval.end(), to)));
+    }
+
+    /**
+     * Разбивает период [from, to), расширенный до целых часов, на занятые и свободные отрезки.
+     */
+    public Availability availability(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime hour = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = roundUpToHour(to);
+        List<Period> busy = new ArrayList<>();
+        List<Period> free = new ArrayList<>();
+        LocalDateTime runStart = hour;
+        boolean runBusy = isBusy(hour);
+        LocalDate day = null;
+        int dayMask = 0;
+        for (; hour.isBefore(end); hour = hour.plusHours(1)) {
+            if (!hour.toLocalDate().equals(day)) {
+                day = hour.toLocalDate();
+                dayMask = busyHours.getOrDefault(day, 0);
+            }
+            boolean hourBusy = (dayMask & (1 << hour.getHour())) != 0;
+            if (hourBusy != runBusy) {
+                (runBusy ? busy : free).add(new Period(runStart, hour));
+                runStart = hour;
+                runBusy = hourBusy;
+            }
+        }
+        if (runStart.isBefore(end)) {
+            (runBusy ? busy : free).add(new Period(runStart, end));
+        }
+        return new Availability(busy, free);
+    }
+
+    private boolean isBusy(LocalDateTime hour) {
+        return (busyHours.getOrDefault(hour.toLocalDate(), 0) & (1 << hour.getHour())) != 0;
+    }
+
+    private static void forEachDay(LocalDateTime start, LocalDateTime end, BiConsumer<LocalDate, Integer> action) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        LocalDateTime last = end.minusNanos(1);
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(last.toLocalDate()); day = day.plusDays(1)) {
+            int fromHour = day.equals(start.toLocalDate()) ? start.getHour() : 0;
+            int toHour = day.equals(last.toLocalDate()) ? last.getHour() : HOURS_PER_DAY - 1;
+            action.accept(day, ((1 << (toHour + 1)) - 1) & ~((1 << fromHour) - 1));
+        }
+    }
+
+    private static LocalDateTime roundUpToHour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return hour.isBefore(time) ? hour.plusHours(1) : hour;
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    public record Period(LocalDateTime start, LocalDateTime end) {
+    }
+
+    public record Availability(List<Period> busy, List<Period> free) {
+    }
+}
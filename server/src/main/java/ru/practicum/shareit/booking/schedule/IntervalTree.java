@@ -0,0 +1,201 @@
+package ru.practicum.shareit.booking.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Дерево интервалов бронирований одной вещи: AVL-дерево по началу интервала, в каждом узле хранится
+ * максимальный конец интервала в поддереве. Интервалы полуоткрытые [start, end): бронирование,
+ * которое начинается в момент окончания другого, с ним не пересекается.
+ * Вставка, удаление и поиск пересечения выполняются за O(log n). Класс не потокобезопасен.
+ */
+public class IntervalTree {
+    private static final Comparator<Interval> BY_START = Comparator.comparing(Interval::start)
+            .thenComparing(Interval::id);
+
+    private final Map<Long, Interval> intervals = new HashMap<>();
+    private Node root;
+
+    public int size() {
+        return intervals.size();
+    }
+
+    public boolean contains(long id) {
+        return intervals.containsKey(id);
+    }
+
+    /**
+     * Добавляет интервал; интервал с тем же id заменяется.
+     */
+    public void insert(long id, LocalDateTime start, LocalDateTime end) {
+        remove(id);
+        Interval interval = new Interval(id, start, end);
+        intervals.put(id, interval);
+        root = insert(root, interval);
+    }
+
+    /**
+     * Удаляет интервал по id и возвращает его, если он был в дереве.
+     */
+    public Optional<Interval> remove(long id) {
+        Interval interval = intervals.remove(id);
+        if (interval != null) {
+            root = remove(root, interval);
+        }
+        return Optional.ofNullable(interval);
+    }
+
+    /**
+     * Возвращает любой интервал, пересекающийся с [start, end).
+     */
+    public Optional<Interval> findOverlap(LocalDateTime start, LocalDateTime end) {
+        Node node = root;
+        while (node != null) {
+            if (node.interval.overlaps(start, end)) {
+                return Optional.of(node.interval);
+            }
+            if (node.left != null && node.left.maxEnd.isAfter(start)) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Возвращает все интервалы, пересекающиеся с [start, end), по возрастанию начала.
+     */
+    public List<Interval> findAllOverlaps(LocalDateTime start, LocalDateTime end) {
+        List<Interval> result = new ArrayList<>();
+        collectOverlaps(root, start, end, result);
+        return result;
+    }
+
+    private static void collectOverlaps(Node node, LocalDateTime start, LocalDateTime end, List<Interval> result) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        collectOverlaps(node.left, start, end, result);
+        if (!node.interval.start().isBefore(end)) {
+            return;
+        }
+        if (node.interval.overlaps(start, end)) {
+            result.add(node.interval);
+        }
+        collectOverlaps(node.right, start, end, result);
+    }
+
+    private static Node insert(Node node, Interval interval) {
+        if (node == null) {
+            return new Node(interval);
+        }
+        if (BY_START.compare(interval, node.interval) < 0) {
+            node.left = insert(node.left, interval);
+        } else {
+            node.right = insert(node.right, interval);
+        }
+        return balance(node);
+    }
+
+    private static Node remove(Node node, Interval interval) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = BY_START.compare(interval, node.interval);
+        if (cmp < 0) {
+            node.left = remove(node.left, interval);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, interval);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = remove(node.right, successor.interval);
+            node.interval = successor.interval;
+        }
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    public record Interval(long id, LocalDateTime start, LocalDateTime end) {
+        public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+            return start.isBefore(otherEnd) && otherStart.isBefore(end);
+        }
+    }
+
+    private static final class Node {
+        private Interval interval;
+        private Node left;
+        private Node right;
+        private int height;
+        private LocalDateTime maxEnd;
+
+        private Node(Interval interval) {
+            this.interval = interval;
+            update();
+        }
+
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = interval.end();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
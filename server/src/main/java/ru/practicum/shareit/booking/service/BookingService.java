@@ -14,8 +14,8 @@ public interface BookingService {
 
     BookingDtoOut getBookingById(Long bookingId, Long userId);
 
-    List<BookingDtoOut> getAllUserBooking(Long userId, State state);
+    List<BookingDtoOut> getAllUserBooking(Long userId, State state, int from, int size);
 
-    List<BookingDtoOut> getAllOwnerBooking(Long ownerId, State state);
+    List<BookingDtoOut> getAllOwnerBooking(Long ownerId, State state, int from, int size);
 
 }
@@ -1,36 +1,59 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDtoIn;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.event.BookingStatusChangedEvent;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.schedule.BookingSchedule;
+import ru.practicum.shareit.booking.schedule.IntervalTree;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.AuthorizationException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.OffsetBasedPageRequest;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 @Slf4j
 @Service
+@Observed(name = "shareit.service")
 @Transactional
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BOOKING_DAYS = 366;
+    private static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start", "id");
+    private static final String NO_OVERLAP_CONSTRAINT = "bookings_no_overlap";
+    private static final String QUERIES_METRIC = "shareit.booking.queries";
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final BookingSchedule bookingSchedule;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -41,8 +64,41 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getAvailable()) {
             throw new ValidationException("Вещь не доступна для бронированя");
         }
-        return BookingMapper.toBookingDtoOut(bookingRepository.save(
-                BookingMapper.toBooking(bookingDtoIn, user, item, Booking.BookingStatus.WAITING)));
+        LocalDateTime start = bookingDtoIn.getStart();
+        LocalDateTime end = bookingDtoIn.getEnd();
+        if (start == null || end == null || !start.isBefore(end)) {
+            throw new ValidationException("Дата начала бронирования должна быть раньше даты окончания");
+        }
+        if (start.plusDays(MAX_BOOKING_DAYS).isBefore(end)) {
+            throw new ValidationException("Бронирование не может быть длиннее " + MAX_BOOKING_DAYS + " дней");
+        }
+        bookingSchedule.findOverlap(item.getId(), start, end).ifPresent(overlap -> {
+            throw bookingConflict(item.getId(), overlap);
+        });
+        Booking booking = saveNewBooking(BookingMapper.toBooking(bookingDtoIn, user, item, Booking.BookingStatus.WAITING));
+        bookingSchedule.book(item.getId(), booking.getId(), booking.getStart(), booking.getEnd())
+                .ifPresent(overlap -> {
+                    throw bookingConflict(item.getId(), overlap);
+                });
+        return publishStatus(booking);
+    }
+
+    private Booking saveNewBooking(Booking booking) {
+        try {
+            // с id из последовательности вставка откладывается до flush, а ограничение нужно проверить здесь
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMessage() != null && e.getMessage().contains(NO_OVERLAP_CONSTRAINT)) {
+                throw new ConflictException("Вещь с Id " + booking.getItem().getId()
+                        + " уже забронирована на пересекающийся период");
+            }
+            throw e;
+        }
+    }
+
+    private static ConflictException bookingConflict(Long itemId, IntervalTree.Interval overlap) {
+        return new ConflictException("Вещь с Id " + itemId + " уже забронирована с " + overlap.start()
+                + " по " + overlap.end());
     }
 
     @Override
@@ -59,13 +115,17 @@ public class BookingServiceImpl implements BookingService {
         booking.setStatus(approved ? Booking.BookingStatus.APPROVED : Booking.BookingStatus.REJECTED);
         booking.getItem().setAvailable(false);
         bookingRepository.save(booking);
-        return BookingMapper.toBookingDtoOut(booking);
+        itemSearchIndex.index(booking.getItem());
+        if (!approved) {
+            bookingSchedule.release(booking.getItem().getId(), booking.getId());
+        }
+        return publishStatus(booking);
     }
 
     @Override
     public BookingDtoOut getBookingById(Long bookingId, Long userId) {
         log.info("Получение бронирования по Id {}", bookingId);
-        findUserById(userId);
+        userService.getUserById(userId);
         Booking booking = findBookingById(bookingId);
         if (!(booking.getItem().getOwner().getId().equals(userId)) && (!booking.getBooker().getId().equals(userId))) {
             throw new AuthorizationException(
@@ -75,54 +135,79 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDtoOut> getAllUserBooking(Long userId, State state) {
+    public List<BookingDtoOut> getAllUserBooking(Long userId, State state, int from, int size) {
         log.info("Получение списка всех бронирований пользователя с Id {}", userId);
-        findUserById(userId);
+        countQuery("booker", state);
+        userService.getUserById(userId);
+        Pageable page = pageByStartDesc(from, size);
         LocalDateTime now = LocalDateTime.now();
 
         List<Booking> bookings;
 
         switch (state) {
-            case CURRENT -> bookings = bookingRepository.findByBookerIdAndStartBeforeAndEndAfter(userId, now, now);
-            case PAST -> bookings = bookingRepository.findByBookerIdAndEndBefore(userId, now);
-            case FUTURE -> bookings = bookingRepository.findByBookerIdAndStartAfter(userId, now);
-            case WAITING -> bookings = bookingRepository.findByBookerIdAndStatus(userId, Booking.BookingStatus.WAITING);
+            case CURRENT -> bookings = bookingRepository.findByBookerIdAndStartBeforeAndEndAfter(userId, now, now, page);
+            case PAST -> bookings = bookingRepository.findByBookerIdAndEndBefore(userId, now, page);
+            case FUTURE -> bookings = bookingRepository.findByBookerIdAndStartAfter(userId, now, page);
+            case WAITING -> bookings = bookingRepository.findByBookerIdAndStatus(userId, Booking.BookingStatus.WAITING, page);
             case REJECTED ->
-                    bookings = bookingRepository.findByBookerIdAndStatus(userId, Booking.BookingStatus.REJECTED);
-            case ALL -> bookings = bookingRepository.findByBookerId(userId);
+                    bookings = bookingRepository.findByBookerIdAndStatus(userId, Booking.BookingStatus.REJECTED, page);
+            case ALL -> bookings = bookingRepository.findByBookerId(userId, page);
             default -> throw new IllegalArgumentException("Неизвестное состояние: " + state);
         }
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
         return bookings.stream()
                 .map(BookingMapper::toBookingDtoOut)
                 .toList();
     }
 
     @Override
-    public List<BookingDtoOut> getAllOwnerBooking(Long ownerId, State state) {
+    public List<BookingDtoOut> getAllOwnerBooking(Long ownerId, State state, int from, int size) {
         log.info("Получение списка бронирований для всех вещей текущего пользователя с Id {}", ownerId);
-        findUserById(ownerId);
+        countQuery("owner", state);
+        userService.getUserById(ownerId);
+        Pageable page = pageByStartDesc(from, size);
         LocalDateTime now = LocalDateTime.now();
 
         List<Booking> bookings;
 
         switch (state) {
-            case CURRENT -> bookings = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter(ownerId, now, now);
-            case PAST -> bookings = bookingRepository.findByItemOwnerIdAndEndBefore(ownerId, now);
-            case FUTURE -> bookings = bookingRepository.findByItemOwnerIdAndStartAfter(ownerId, now);
+            case CURRENT -> bookings = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter(ownerId, now, now, page);
+            case PAST -> bookings = bookingRepository.findByItemOwnerIdAndEndBefore(ownerId, now, page);
+            case FUTURE -> bookings = bookingRepository.findByItemOwnerIdAndStartAfter(ownerId, now, page);
             case WAITING ->
-                    bookings = bookingRepository.findByItemOwnerIdAndStatus(ownerId, Booking.BookingStatus.WAITING);
+                    bookings = bookingRepository.findByItemOwnerIdAndStatus(ownerId, Booking.BookingStatus.WAITING, page);
             case REJECTED ->
-                    bookings = bookingRepository.findByItemOwnerIdAndStatus(ownerId, Booking.BookingStatus.REJECTED);
-            case ALL -> bookings = bookingRepository.findByItemOwnerId(ownerId);
+                    bookings = bookingRepository.findByItemOwnerIdAndStatus(ownerId, Booking.BookingStatus.REJECTED, page);
+            case ALL -> bookings = bookingRepository.findByItemOwnerId(ownerId, page);
             default -> throw new IllegalArgumentException("Неизвестное состояние: " + state);
         }
-        bookings.sort(Comparator.comparing(Booking::getStart).reversed());
         return bookings.stream()
                 .map(BookingMapper::toBookingDtoOut)
                 .toList();
     }
 
+    /**
+     * Сообщает арендатору и владельцу о новом статусе бронирования; подписчики получат событие после коммита.
+     */
+    private BookingDtoOut publishStatus(Booking booking) {
+        BookingDtoOut bookingDtoOut = BookingMapper.toBookingDtoOut(booking);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingDtoOut, booking.getItem().getOwner().getId()));
+        return bookingDtoOut;
+    }
+
+    /**
+     * Считает запросы списков бронирований по состоянию: видно, какие ветки запросов к базе нагружены.
+     */
+    private void countQuery(String role, State state) {
+        meterRegistry.counter(QUERIES_METRIC, "role", role, "state", state.name()).increment();
+    }
+
+    private static Pageable pageByStartDesc(int from, int size) {
+        if (from < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Некорректные параметры страницы: from = " + from + ", size = " + size);
+        }
+        return new OffsetBasedPageRequest(from, size, SORT_BY_START_DESC);
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId).orElseThrow(
                 () -> new NotFoundException("Пользователь с ID:" + userId + " не найден"));
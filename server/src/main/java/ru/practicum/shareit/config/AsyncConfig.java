@@ -0,0 +1,13 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Асинхронные методы выполняются на applicationTaskExecutor; при spring.threads.virtual.enabled
+ * каждая задача получает свой виртуальный поток.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Кэши Caffeine с размером и временем жизни из spring.cache.caffeine.spec.
+ * Запись и удаление выполняются после коммита транзакции, чтобы откат не оставлял в кэше чужие данные.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String USERS_CACHE = "users";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
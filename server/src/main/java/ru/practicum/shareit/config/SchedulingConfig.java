@@ -0,0 +1,12 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Периодические задачи, например пинг открытых потоков событий бронирований.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,16 +1,25 @@
 package ru.practicum.shareit.item.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDtoIn;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.dto.ItemSearchResult;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.utility.Create;
+import ru.practicum.shareit.utility.NdjsonReader;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -19,7 +28,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String NDJSON = "application/x-ndjson";
+
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemDtoOut addNewItem(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -28,6 +41,20 @@ public class ItemController {
         return itemService.addNewItem(userId, itemDtoIn);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<ItemDtoOut> addNewItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                        @RequestBody List<ItemDtoIn> itemDtoIns) {
+        log.info("запрос на добавление {} вещей для пользователя {}", itemDtoIns.size(), userId);
+        return itemService.addNewItems(userId, itemDtoIns.iterator());
+    }
+
+    @PostMapping(value = "/bulk", consumes = NDJSON)
+    public List<ItemDtoOut> addNewItemsStream(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                              InputStream body) {
+        log.info("запрос на потоковое добавление вещей для пользователя {}", userId);
+        return itemService.addNewItems(userId, new NdjsonReader<>(objectMapper, body, ItemDtoIn.class));
+    }
+
     @GetMapping("/{itemId}")
     public ItemDtoOut getItemById(@PathVariable Long itemId,
                                   @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -35,6 +62,13 @@ public class ItemController {
         return itemService.getItemById(itemId, userId);
     }
 
+    @GetMapping("/batch")
+    public List<ItemDtoOut> getItemsByIds(@RequestParam List<Long> ids,
+                                          @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("запрос на получение вещей с id {} для пользователя {}", ids, userId);
+        return itemService.getItemsByIds(ids, userId);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDtoOut updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
                                  @PathVariable Long itemId,
@@ -50,9 +84,27 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    List<ItemDtoOut> searchItemByText(@RequestParam String text) {
-        log.info("запрос на поиск вещей по тексту: {}", text);
-        return itemService.searchItemByText(text);
+    ResponseEntity<List<ItemDtoOut>> searchItemByText(@RequestParam String text,
+                                                      @RequestParam(defaultValue = "0") Integer from,
+                                                      @RequestParam(defaultValue = "10") Integer size,
+                                                      @RequestParam(required = false) String cursor) {
+        log.info("запрос на поиск вещей по тексту: {}, from = {}, size = {}", text, from, size);
+        ItemSearchResult result = itemService.searchItemByText(text, from, size, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, result.getNextCursor());
+        }
+        return response.body(result.getItems());
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getItemAvailability(@PathVariable Long itemId,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                   LocalDateTime from,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                   LocalDateTime to) {
+        log.info("запрос на получение календаря занятости вещи с id {} с {} по {}", itemId, from, to);
+        return itemService.getItemAvailability(itemId, from, to);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemSearchResult {
+    private List<ItemDtoOut> items;
+    private String nextCursor;
+}
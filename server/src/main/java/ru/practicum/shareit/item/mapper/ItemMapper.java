@@ -7,6 +7,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -19,6 +20,15 @@ public interface ItemMapper {
     @Mapping(target = "requestId", expression = "java(item.getRequest() != null ? item.getRequest().getId() : null)")
     ItemDtoOut toItemDtoOut(Item item);
 
+    @Mapping(target = "id", source = "itemId")
+    @Mapping(target = "name", source = "itemName")
+    @Mapping(target = "description", source = "itemDescription")
+    @Mapping(target = "available", source = "itemAvailable")
+    @Mapping(target = "requestId", source = "itemRequestId")
+    @Mapping(target = "owner.id", source = "ownerId")
+    @Mapping(target = "owner.name", source = "ownerName")
+    ItemDtoOut toItemDtoOut(ItemRequestRow row);
+
     ItemDto toItemDto(Item item);
 
     @Mapping(target = "name", source = "name")
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -12,4 +13,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE c.item.id = ?1")
     List<Comment> findAllByItemId(Long itemId);
 
+    @Query("SELECT c FROM Comment AS c " +
+            "JOIN FETCH c.author " +
+            "WHERE c.item.id IN ?1")
+    List<Comment> findAllByItemIdIn(Collection<Long> itemIds);
+
 }
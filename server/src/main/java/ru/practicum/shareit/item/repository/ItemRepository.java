@@ -1,21 +1,51 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     List<Item> findAllByOwnerId(Long ownerId);
 
+    // текст ищется как подстрока: % и _ в нем экранируются, а не работают как шаблоны LIKE
+    String CONTAINS_TEXT = "LIKE CONCAT('%', UPPER(:#{escape(#text)}), '%') ESCAPE :#{escapeCharacter()}";
+
+    String NAME_RELEVANCE = "CASE WHEN UPPER(i.name) " + CONTAINS_TEXT + " THEN 1 ELSE 0 END";
+
+    @Query("SELECT i FROM Item AS i " +
+            "JOIN FETCH i.owner " +
+            "WHERE (UPPER(i.name) " + CONTAINS_TEXT + " " +
+            "OR UPPER(i.description) " + CONTAINS_TEXT + ") " +
+            "AND i.available = true " +
+            "ORDER BY " + NAME_RELEVANCE + " DESC, i.id")
+    List<Item> search(@Param("text") String text, Pageable pageable);
+
+    @Query("SELECT i FROM Item AS i " +
+            "JOIN FETCH i.owner " +
+            "WHERE (UPPER(i.name) " + CONTAINS_TEXT + " " +
+            "OR UPPER(i.description) " + CONTAINS_TEXT + ") " +
+            "AND i.available = true " +
+            "AND (" + NAME_RELEVANCE + " < :score OR (" + NAME_RELEVANCE + " = :score AND i.id > :id)) " +
+            "ORDER BY " + NAME_RELEVANCE + " DESC, i.id")
+    List<Item> searchAfter(@Param("text") String text, @Param("score") int score, @Param("id") Long id,
+                           Limit limit);
+
+    @Query("SELECT i FROM Item AS i " +
+            "JOIN FETCH i.owner " +
+            "WHERE i.id IN :ids AND i.available = true")
+    List<Item> findAllAvailableByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT i FROM Item AS i " +
-            "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', :text, '%')) " +
-            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', :text, '%'))) " +
-            "AND i.available = true")
-    List<Item> search(String text);
+            "JOIN FETCH i.owner " +
+            "WHERE i.id IN :ids")
+    List<Item> findAllWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT i FROM Item i WHERE i.request.id IN :ids")
     List<Item> findAllByRequestIds(@Param("ids") List<Long> ids);
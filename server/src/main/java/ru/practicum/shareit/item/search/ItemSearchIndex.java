@@ -0,0 +1,261 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Инвертированный индекс вещей в памяти процесса.
+ * Название и описание разбиваются на слова в нижнем регистре; слово запроса совпадает
+ * с любым словом вещи, которое с него начинается. Все слова запроса должны совпасть.
+ * Релевантность выше у точного совпадения, чем у совпадения по началу слова, и у названия, чем у описания.
+ * Для подбора вещей к запросам есть нестрогий режим: достаточно совпадения хотя бы одного слова.
+ * <p>
+ * Изменения вещей в этом процессе попадают в индекс после коммита. Вещи, созданные или измененные в обход него
+ * (другим экземпляром сервера, сидером, SQL), подхватываются при полной перестройке раз в
+ * shareit.search.index.refresh. Каждый документ помечается номером применения: снимок перестройки не затирает
+ * документ, примененный после того, как снимок начал читаться. Пока первая перестройка не завершилась,
+ * индекс не готов, и поиск идет через базу.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_EXACT_SCORE = 4;
+    private static final int NAME_PREFIX_SCORE = 3;
+    private static final int DESCRIPTION_EXACT_SCORE = 2;
+    private static final int DESCRIPTION_PREFIX_SCORE = 1;
+    private static final int MIN_MATCH_TERM_LENGTH = 3;
+    private static final Comparator<Match> BY_RELEVANCE = Comparator.comparingInt(Match::score).reversed()
+            .thenComparing(Match::id);
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final AtomicLong stamps = new AtomicLong();
+    private volatile boolean ready;
+    private final ConcurrentMap<Long, IndexedItem> documents = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Включен ли индекс и завершилась ли его первая перестройка.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Перестраивает индекс по всем вещам в базе: добавляет новые, обновляет измененные и удаляет исчезнувшие.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${shareit.search.index.refresh:PT1M}",
+            initialDelayString = "${shareit.search.index.refresh:PT1M}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long snapshot = stamps.incrementAndGet();
+        List<Item> items = itemRepository.findAll();
+        Set<Long> ids = new HashSet<>();
+        items.forEach(item -> {
+            ids.add(item.getId());
+            apply(toIndexedItem(item), snapshot);
+        });
+        int removed = removeMissing(ids, snapshot);
+        boolean first = !ready;
+        ready = true;
+        if (first) {
+            log.info("Поисковый индекс построен, вещей: {}", items.size());
+        } else {
+            log.debug("Поисковый индекс перестроен, вещей: {}, удалено: {}", items.size(), removed);
+        }
+    }
+
+    /**
+     * Добавляет или обновляет вещь в индексе. Внутри транзакции изменение применяется после коммита.
+     */
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+        IndexedItem indexedItem = toIndexedItem(item);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(indexedItem, stamps.incrementAndGet());
+                }
+            });
+        } else {
+            apply(indexedItem, stamps.incrementAndGet());
+        }
+    }
+
+    /**
+     * Возвращает доступные вещи, подходящие под запрос, по убыванию релевантности, при равной — по возрастанию id.
+     */
+    public List<Match> search(String text) {
+        List<String> terms = tokenize(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> result = null;
+        for (String term : terms) {
+            Set<Long> matches = new HashSet<>();
+            postings.subMap(term, true, term + Character.MAX_VALUE, false).values().forEach(matches::addAll);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                return List.of();
+            }
+        }
+        return result.stream()
+                .map(documents::get)
+                .filter(indexedItem -> indexedItem != null && indexedItem.available())
+                .map(indexedItem -> new Match(indexedItem.id(), score(indexedItem, terms)))
+                .sorted(BY_RELEVANCE)
+                .toList();
+    }
+
+    /**
+     * Подбирает доступные вещи к свободному тексту, например к описанию запроса: вещь подходит,
+     * если совпало хотя бы одно слово текста не короче трех букв. Вещи владельца excludedOwnerId пропускаются.
+     *
+     * @return не больше limit вещей по убыванию релевантности, при равной — по возрастанию id
+     */
+    public List<Match> match(String text, Long excludedOwnerId, int limit) {
+        List<String> terms = tokenize(text).stream()
+                .filter(term -> term.length() >= MIN_MATCH_TERM_LENGTH)
+                .toList();
+        Set<Long> candidates = new HashSet<>();
+        terms.forEach(term -> postings.subMap(term, true, term + Character.MAX_VALUE, false).values()
+                .forEach(candidates::addAll));
+        return candidates.stream()
+                .map(documents::get)
+                .filter(indexedItem -> indexedItem != null && indexedItem.available()
+                        && !Objects.equals(indexedItem.ownerId(), excludedOwnerId))
+                .map(indexedItem -> new Match(indexedItem.id(), score(indexedItem, terms)))
+                .sorted(BY_RELEVANCE)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Применяет документ с номером stamp, если в индексе нет документа той же вещи с большим номером.
+     */
+    private synchronized void apply(IndexedItem indexedItem, long stamp) {
+        IndexedItem previous = documents.get(indexedItem.id());
+        if (previous != null && previous.stamp() > stamp) {
+            return;
+        }
+        documents.put(indexedItem.id(), indexedItem.withStamp(stamp));
+        if (previous != null) {
+            removePostings(previous);
+        }
+        indexedItem.tokens().forEach(token ->
+                postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(indexedItem.id()));
+    }
+
+    /**
+     * Удаляет вещи, которых нет в снимке, если они не были применены после его начала.
+     */
+    private synchronized int removeMissing(Set<Long> ids, long snapshot) {
+        List<IndexedItem> missing = documents.values().stream()
+                .filter(indexedItem -> !ids.contains(indexedItem.id()) && indexedItem.stamp() <= snapshot)
+                .toList();
+        missing.forEach(indexedItem -> {
+            documents.remove(indexedItem.id());
+            removePostings(indexedItem);
+        });
+        return missing.size();
+    }
+
+    private void removePostings(IndexedItem indexedItem) {
+        indexedItem.tokens().forEach(token -> postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(indexedItem.id());
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    private static int score(IndexedItem indexedItem, List<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            score += Math.max(
+                    termScore(indexedItem.nameTokens(), term, NAME_EXACT_SCORE, NAME_PREFIX_SCORE),
+                    termScore(indexedItem.descriptionTokens(), term, DESCRIPTION_EXACT_SCORE,
+                            DESCRIPTION_PREFIX_SCORE));
+        }
+        return score;
+    }
+
+    private static int termScore(Set<String> tokens, String term, int exactScore, int prefixScore) {
+        if (tokens.contains(term)) {
+            return exactScore;
+        }
+        for (String token : tokens) {
+            if (token.startsWith(term)) {
+                return prefixScore;
+            }
+        }
+        return 0;
+    }
+
+    private static IndexedItem toIndexedItem(Item item) {
+        Long ownerId = item.getOwner() != null ? item.getOwner().getId() : null;
+        return new IndexedItem(item.getId(), ownerId, Boolean.TRUE.equals(item.getAvailable()),
+                Set.copyOf(tokenize(item.getName())), Set.copyOf(tokenize(item.getDescription())), 0);
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public record Match(Long id, int score) {
+    }
+
+    private record IndexedItem(Long id, Long ownerId, boolean available, Set<String> nameTokens,
+                               Set<String> descriptionTokens, long stamp) {
+        IndexedItem withStamp(long stamp) {
+            return new IndexedItem(id, ownerId, available, nameTokens, descriptionTokens, stamp);
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new HashSet<>(nameTokens);
+            tokens.addAll(descriptionTokens);
+            return tokens;
+        }
+    }
+}
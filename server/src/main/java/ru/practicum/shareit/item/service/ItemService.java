@@ -2,22 +2,32 @@ package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDtoIn;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.dto.ItemSearchResult;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 public interface ItemService {
 
     ItemDtoOut addNewItem(Long userId, ItemDtoIn itemDtoIn);
 
+    List<ItemDtoOut> addNewItems(Long userId, Iterator<ItemDtoIn> itemDtoIns);
+
     ItemDtoOut getItemById(Long itemId, Long userId);
 
+    List<ItemDtoOut> getItemsByIds(List<Long> itemIds, Long userId);
+
     ItemDtoOut updateItem(Long userId, Long itemId, ItemDtoIn itemDtoIn);
 
     List<ItemDtoOut> getOwnerItems(Long userId);
 
-    List<ItemDtoOut> searchItemByText(String text);
+    ItemSearchResult searchItemByText(String text, int from, int size, String cursor);
+
+    ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
 
     CommentDtoOut saveComment(Long userId, CommentDtoIn commentDtoIn, Long itemId);
 }
@@ -1,51 +1,77 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.schedule.BookingSchedule;
+import ru.practicum.shareit.booking.schedule.HourCalendar;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDtoIn;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.dto.ItemSearchResult;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.CursorCodec;
+import ru.practicum.shareit.utility.OffsetBasedPageRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.data.domain.Sort.Direction.ASC;
-import static org.springframework.data.domain.Sort.Direction.DESC;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Observed(name = "shareit.service")
 @Transactional
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
-    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 10_000;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_TEXT_LENGTH = 255;
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRequestRepository itemRequestRepository;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
+    private final ItemSearchIndex itemSearchIndex;
+    private final BookingSchedule bookingSchedule;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -72,6 +98,7 @@ public class ItemServiceImpl implements ItemService {
             Item item = itemMapper.mapItemDtoToItem(itemDtoIn, user, itemRequest);
             item.setOwner(user);
             itemRepository.save(item);
+            itemSearchIndex.index(item);
             return itemMapper.toItemDtoOut(item);
         } catch (Exception ex) {
             log.error("Ошибка при добавлении вещи: {}", ex.getMessage(), ex);
@@ -79,18 +106,71 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
+    /**
+     * Добавляет вещи пользователя одной транзакцией. Владелец проверяется один раз, запросы на вещи
+     * загружаются одним запросом на пачку, вставки уходят в базу JDBC-пачками по {@value #BULK_CHUNK_SIZE}.
+     * Вещи читаются из итератора по мере вставки, поэтому поток NDJSON не загружается в память целиком.
+     */
+    @Override
+    @Transactional
+    public List<ItemDtoOut> addNewItems(Long userId, Iterator<ItemDtoIn> itemDtoIns) {
+        log.info("Массовое добавление вещей пользователем {}", userId);
+        User user = findUserById(userId);
+        entityManager.unwrap(Session.class).setJdbcBatchSize(BULK_CHUNK_SIZE);
+        List<ItemDtoOut> saved = new ArrayList<>();
+        List<ItemDtoIn> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        int number = 0;
+        while (itemDtoIns.hasNext()) {
+            ItemDtoIn itemDtoIn = itemDtoIns.next();
+            number++;
+            if (number > MAX_BULK_SIZE) {
+                throw new ValidationException("За один запрос можно добавить не больше " + MAX_BULK_SIZE + " вещей");
+            }
+            validateBulkItem(itemDtoIn, number);
+            chunk.add(itemDtoIn);
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                saved.addAll(saveChunk(user, chunk));
+                chunk.clear();
+            }
+        }
+        if (number == 0) {
+            throw new ValidationException("Список вещей не может быть пустым");
+        }
+        if (!chunk.isEmpty()) {
+            saved.addAll(saveChunk(user, chunk));
+        }
+        log.info("Пользователем {} добавлено вещей: {}", userId, saved.size());
+        return saved;
+    }
+
     @Override
     public ItemDtoOut getItemById(Long itemId, Long userId) {
         log.info("Получение вещи с ID: {} пользователя {}", itemId, userId);
         return itemRepository.findById(itemId).map(item ->
-                enhanceItemWithDetails(item, userId)).orElseThrow(() ->
+                enhanceItemsWithDetails(List.of(item), userId).get(0)).orElseThrow(() ->
                 new NotFoundException("Вещь с Id " + itemId + " не найдена"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemDtoOut> getItemsByIds(List<Long> itemIds, Long userId) {
+        log.info("Получение вещей с ID: {} пользователя {}", itemIds, userId);
+        if (itemIds == null || itemIds.isEmpty() || itemIds.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Количество запрошенных вещей должно быть от 1 до " + MAX_BATCH_SIZE);
+        }
+        Map<Long, Item> items = itemRepository.findAllWithOwnerByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return enhanceItemsWithDetails(itemIds.stream()
+                .distinct()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList(), userId);
+    }
+
     @Override
     public ItemDtoOut updateItem(Long userId, Long itemId, ItemDtoIn itemDtoIn) {
         log.info("Обновление вещи {}, c ID: {} пользователя {}", itemDtoIn.getName(), itemId, userId);
-        findUserById(userId);
+        userService.getUserById(userId);
         Item item = findItemById(itemId);
         if (!item.getOwner().getId().equals(userId)) {
             throw new ValidationException("У владельца нет вещи");
@@ -99,6 +179,7 @@ public class ItemServiceImpl implements ItemService {
         Optional.ofNullable(itemDtoIn.getDescription()).ifPresent(item::setDescription);
         Optional.ofNullable(itemDtoIn.getAvailable()).ifPresent(item::setAvailable);
         Item saveItem = itemRepository.save(item);
+        itemSearchIndex.index(saveItem);
         log.info("Вещь обновлена {}", saveItem.getName());
         return itemMapper.toItemDtoOut(saveItem);
     }
@@ -107,7 +188,7 @@ public class ItemServiceImpl implements ItemService {
     @Transactional(readOnly = true)
     public List<ItemDtoOut> getOwnerItems(Long userId) {
         log.info("Получение списка всех вещей владельца с ID:{}", userId);
-        findUserById(userId);
+        userService.getUserById(userId);
         List<Item> items = itemRepository.findAllByOwnerId(userId);
 
         if (items.isEmpty()) {
@@ -115,24 +196,66 @@ public class ItemServiceImpl implements ItemService {
             return Collections.emptyList();
         }
 
-        return items.stream()
-                .map(item -> {
-                    ItemDtoOut itemDtoOut = itemMapper.toItemDtoOut(item);
-                    itemDtoOut.setLastBooking(getLastBooking(item));
-                    itemDtoOut.setNextBooking(getNextBooking(item));
-                    itemDtoOut.setComments(getComments(item));
-                    return itemDtoOut;
-                })
-                .toList();
+        return enhanceItemsWithDetails(items, userId);
     }
 
 
     @Override
-    public List<ItemDtoOut> searchItemByText(String text) {
-        log.info("Поиск вещей по тексту {}", text);
-        return itemRepository.search(text).stream()
-                .map(itemMapper::toItemDtoOut)
+    public ItemSearchResult searchItemByText(String text, int from, int size, String cursor) {
+        log.info("Поиск вещей по тексту {}, from = {}, size = {}, cursor = {}", text, from, size, cursor);
+        if (from < 0 || size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new ValidationException("Некорректные параметры страницы: from = " + from + ", size = " + size);
+        }
+        if (text == null || text.isBlank()) {
+            return new ItemSearchResult(Collections.emptyList(), null);
+        }
+        SearchPosition after = cursor == null ? null : SearchPosition.decode(cursor);
+        if (!itemSearchIndex.isReady()) {
+            List<Item> items = after == null
+                    ? itemRepository.search(text, new OffsetBasedPageRequest(from, size))
+                    : itemRepository.searchAfter(text, after.score(), after.id(), Limit.of(size));
+            String nextCursor = null;
+            if (items.size() == size) {
+                Item last = items.get(items.size() - 1);
+                nextCursor = new SearchPosition(nameRelevance(last, text), last.getId()).encode();
+            }
+            return new ItemSearchResult(items.stream().map(itemMapper::toItemDtoOut).toList(), nextCursor);
+        }
+        Stream<ItemSearchIndex.Match> matches = itemSearchIndex.search(text).stream();
+        List<ItemSearchIndex.Match> page = (after == null ? matches.skip(from) : matches.filter(after::isFollowedBy))
+                .limit(size)
                 .toList();
+        if (page.isEmpty()) {
+            return new ItemSearchResult(Collections.emptyList(), null);
+        }
+        Map<Long, Item> items = itemRepository.findAllAvailableByIdIn(
+                        page.stream().map(ItemSearchIndex.Match::id).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        ItemSearchIndex.Match last = page.get(page.size() - 1);
+        String nextCursor = page.size() == size ? new SearchPosition(last.score(), last.id()).encode() : null;
+        return new ItemSearchResult(page.stream()
+                .map(match -> items.get(match.id()))
+                .filter(Objects::nonNull)
+                .map(itemMapper::toItemDtoOut)
+                .toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        log.info("Получение календаря занятости вещи с ID: {} с {} по {}", itemId, from, to);
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("Начало периода должно быть раньше его окончания");
+        }
+        if (from.plusDays(BookingSchedule.MAX_AVAILABILITY_DAYS).isBefore(to)) {
+            throw new ValidationException("Период не может быть длиннее " + BookingSchedule.MAX_AVAILABILITY_DAYS + " дней");
+        }
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Вещь с ID: " + itemId + " не найдена");
+        }
+        HourCalendar.Availability availability = bookingSchedule.availability(itemId, from, to);
+        return new ItemAvailabilityDto(itemId, from, to,
+                toPeriodDtos(availability.busy()), toPeriodDtos(availability.free()));
     }
 
     @Override
@@ -141,9 +264,7 @@ public class ItemServiceImpl implements ItemService {
         if (!itemRepository.existsById(itemId)) {
             throw new NotFoundException("Вещь с ID: " + itemId + " не найдена");
         }
-        if (!userRepository.existsById(userId)) {
-            throw new NotFoundException("Пользователь с ID: " + userId + " не найден");
-        }
+        userService.getUserById(userId);
         try {
             Booking booking = bookingRepository
                     .findByBookerIdAndItemIdAndStatusAndEndBefore(userId, itemId,
@@ -155,6 +276,54 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
+    private static void validateBulkItem(ItemDtoIn itemDtoIn, int number) {
+        if (itemDtoIn.getName() == null || itemDtoIn.getName().isBlank()) {
+            throw new ValidationException("Вещь №" + number + ": имя вещи не может быть пустым");
+        }
+        if (itemDtoIn.getDescription() == null || itemDtoIn.getDescription().isBlank()) {
+            throw new ValidationException("Вещь №" + number + ": описание вещи не может быть пустым");
+        }
+        if (itemDtoIn.getName().length() > MAX_TEXT_LENGTH) {
+            throw new ValidationException("Вещь №" + number + ": имя вещи не может быть длиннее "
+                    + MAX_TEXT_LENGTH + " символов");
+        }
+        if (itemDtoIn.getDescription().length() > MAX_TEXT_LENGTH) {
+            throw new ValidationException("Вещь №" + number + ": описание вещи не может быть длиннее "
+                    + MAX_TEXT_LENGTH + " символов");
+        }
+        if (itemDtoIn.getAvailable() == null) {
+            throw new ValidationException("Вещь №" + number + ": не указана доступность вещи");
+        }
+    }
+
+    private List<ItemDtoOut> saveChunk(User user, List<ItemDtoIn> chunk) {
+        List<Long> requestIds = chunk.stream()
+                .map(ItemDtoIn::getRequestId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, ItemRequest> requests = requestIds.isEmpty() ? Map.of()
+                : itemRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        List<Item> items = new ArrayList<>(chunk.size());
+        for (ItemDtoIn itemDtoIn : chunk) {
+            ItemRequest itemRequest = null;
+            if (itemDtoIn.getRequestId() != null) {
+                itemRequest = Optional.ofNullable(requests.get(itemDtoIn.getRequestId())).orElseThrow(
+                        () -> new NotFoundException("Запрос на вещь с Id " + itemDtoIn.getRequestId() + " не найден"));
+            }
+            Item item = itemMapper.mapItemDtoToItem(itemDtoIn, user, itemRequest);
+            item.setOwner(user);
+            entityManager.persist(item);
+            items.add(item);
+        }
+        entityManager.flush();
+        items.forEach(itemSearchIndex::index);
+        List<ItemDtoOut> saved = items.stream().map(itemMapper::toItemDtoOut).toList();
+        items.forEach(entityManager::detach);
+        return saved;
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId).orElseThrow(
                 () -> new NotFoundException("Пользователь с ID " + userId + " не найден"));
@@ -165,35 +334,76 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new NotFoundException("Вещь с ID " + itemId + " не найдена"));
     }
 
-    private ItemDtoOut enhanceItemWithDetails(Item item, Long userId) {
-        ItemDtoOut itemDtoOut = itemMapper.toItemDtoOut(item);
-        if (itemDtoOut.getOwner().getId().equals(userId)) {
-            itemDtoOut.setLastBooking(getLastBooking(item));
-            itemDtoOut.setNextBooking(getLastBooking(item));
+    /**
+     * Дополняет вещи комментариями, а вещи пользователя — последним и следующим бронированием.
+     * Бронирования и комментарии всех вещей загружаются двумя запросами.
+     */
+    private List<ItemDtoOut> enhanceItemsWithDetails(List<Item> items, Long userId) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
         }
-        itemDtoOut.setComments(getComments(item));
-        return itemDtoOut;
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .toList();
+        List<Long> ownItemIds = items.stream()
+                .filter(item -> item.getOwner().getId().equals(userId))
+                .map(Item::getId)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookingDto> lastBookings = new HashMap<>();
+        Map<Long, BookingDto> nextBookings = new HashMap<>();
+        List<Booking> bookings = ownItemIds.isEmpty()
+                ? List.of()
+                : bookingRepository.findLastAndNextApprovedByItemIds(ownItemIds, now);
+        for (Booking booking : bookings) {
+            Map<Long, BookingDto> target = booking.getStart().isAfter(now) ? nextBookings : lastBookings;
+            target.put(booking.getItem().getId(), BookingMapper.toBookingDto(booking));
+        }
+        Map<Long, List<CommentDtoOut>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentDtoOut, Collectors.toList())));
+
+        return items.stream()
+                .map(item -> {
+                    ItemDtoOut itemDtoOut = itemMapper.toItemDtoOut(item);
+                    itemDtoOut.setLastBooking(lastBookings.get(item.getId()));
+                    itemDtoOut.setNextBooking(nextBookings.get(item.getId()));
+                    itemDtoOut.setComments(comments.getOrDefault(item.getId(), List.of()));
+                    return itemDtoOut;
+                })
+                .toList();
     }
 
-    private BookingDto getLastBooking(Item item) {
-        return bookingRepository
-                .findFirstByItemIdAndStartLessThanEqualAndStatus(item.getId(), NOW,
-                        Booking.BookingStatus.APPROVED, Sort.by(DESC, "end"))
-                .map(BookingMapper::toBookingDto)
-                .orElse(null);
+    private static List<ItemAvailabilityDto.Period> toPeriodDtos(List<HourCalendar.Period> periods) {
+        return periods.stream()
+                .map(period -> new ItemAvailabilityDto.Period(period.start(), period.end()))
+                .toList();
     }
 
-    private BookingDto getNextBooking(Item item) {
-        return bookingRepository
-                .findFirstByItemIdAndStartAfterAndStatus(item.getId(), NOW,
-                        Booking.BookingStatus.APPROVED, Sort.by(ASC, "end"))
-                .map(BookingMapper::toBookingDto)
-                .orElse(null);
+    private static int nameRelevance(Item item, String text) {
+        return item.getName() != null
+                && item.getName().toUpperCase(Locale.ROOT).contains(text.toUpperCase(Locale.ROOT)) ? 1 : 0;
     }
 
-    private List<CommentDtoOut> getComments(Item item) {
-        return commentRepository.findAllByItemId(item.getId()).stream()
-                .map(commentMapper::toCommentDtoOut)
-                .toList();
+    /**
+     * Позиция последней выданной вещи: релевантность и id, по которым отсортирована выдача.
+     */
+    private record SearchPosition(int score, long id) {
+        static SearchPosition decode(String cursor) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                return new SearchPosition(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Некорректный курсор: " + cursor);
+            }
+        }
+
+        String encode() {
+            return CursorCodec.encode(String.valueOf(score), String.valueOf(id));
+        }
+
+        boolean isFollowedBy(ItemSearchIndex.Match match) {
+            return match.score() < score || (match.score() == score && match.id() > id);
+        }
     }
 }
@@ -2,9 +2,12 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.controller.ItemController;
 import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
 import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.List;
@@ -33,11 +36,18 @@ public class ItemRequestController {
 
 
     @GetMapping("/all")
-    public List<ItemRequestDtoOut> getAllRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                  @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                  @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        log.info("получить список запросов, созданных другими пользователями");
-        return requestService.getAllRequests(userId, from, size);
+    public ResponseEntity<List<ItemRequestDtoOut>> getAllRequests(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(name = "from", defaultValue = "0") Integer from,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        log.info("получить список запросов, созданных другими пользователями, from = {}, size = {}", from, size);
+        ItemRequestPage page = requestService.getAllRequests(userId, from, size, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(ItemController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getRequests());
     }
 
     @GetMapping("/{requestId}")
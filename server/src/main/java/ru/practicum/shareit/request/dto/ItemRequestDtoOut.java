@@ -23,4 +23,7 @@ public class ItemRequestDtoOut {
     @Builder.Default
     private List<ItemDtoOut> items = new ArrayList<>();
 
+    @Builder.Default
+    private List<ItemDtoOut> suggestions = new ArrayList<>();
+
 }
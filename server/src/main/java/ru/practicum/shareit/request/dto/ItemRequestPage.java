@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemRequestPage {
+    private List<ItemRequestDtoOut> requests;
+    private String nextCursor;
+}
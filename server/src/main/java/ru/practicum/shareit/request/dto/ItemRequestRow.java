@@ -0,0 +1,13 @@
+package ru.practicum.shareit.request.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Строка проекции запроса вместе с одной из вещей: добавленной в ответ на него или подобранной к нему.
+ * У подобранной вещи заполнена оценка suggestionScore, у ответа она равна null.
+ * Если ответов нет, запрос возвращается строкой, в которой поля вещи равны null.
+ */
+public record ItemRequestRow(Long id, String description, LocalDateTime created, Long requestorId,
+                             Long itemId, String itemName, String itemDescription, Boolean itemAvailable,
+                             Long itemRequestId, Long ownerId, String ownerName, Integer suggestionScore) {
+}
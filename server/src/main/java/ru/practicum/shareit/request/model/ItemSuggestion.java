@@ -0,0 +1,35 @@
+package ru.practicum.shareit.request.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ru.practicum.shareit.item.model.Item;
+
+@Entity
+@Table(name = "request_suggestions")
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode(of = "id")
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSuggestion {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_suggestions_seq")
+    @SequenceGenerator(name = "request_suggestions_seq", sequenceName = "request_suggestions_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "request_id", nullable = false)
+    private ItemRequest request;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @Column(name = "score", nullable = false)
+    private Integer score;
+}
@@ -1,12 +1,14 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
@@ -15,7 +17,33 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
 
     List<ItemRequest> findAllByRequestorIdIsNot(Long requestorId, Pageable pageable);
 
-    @Query("SELECT i FROM Item i WHERE i.request.id = :requestId")
-    List<ItemDtoOut> findItemsByRequestId(@Param("requestId") Long requestId);
+    @Query("SELECT r FROM ItemRequest r " +
+            "WHERE r.requestor.id <> :requestorId " +
+            "AND (r.created < :created OR (r.created = :created AND r.id < :id)) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findAllByRequestorIdIsNotAfter(@Param("requestorId") Long requestorId,
+                                                     @Param("created") LocalDateTime created,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+
+    // запрос, вещи, добавленные в ответ на него, и подобранные доступные вещи вместе с владельцами одним запросом;
+    // у подобранных вещей заполнена оценка, порядок строк задает сервис
+    @Query("SELECT new ru.practicum.shareit.request.dto.ItemRequestRow(" +
+            "r.id, r.description, r.created, r.requestor.id, " +
+            "i.id, i.name, i.description, i.available, i.request.id, o.id, o.name, CAST(NULL AS Integer)) " +
+            "FROM ItemRequest r " +
+            "LEFT JOIN Item i ON i.request = r " +
+            "LEFT JOIN i.owner o " +
+            "WHERE r.id = :requestId " +
+            "UNION ALL " +
+            "SELECT new ru.practicum.shareit.request.dto.ItemRequestRow(" +
+            "r.id, r.description, r.created, r.requestor.id, " +
+            "i.id, i.name, i.description, i.available, i.request.id, o.id, o.name, s.score) " +
+            "FROM ItemSuggestion s " +
+            "JOIN s.request r " +
+            "JOIN s.item i " +
+            "JOIN i.owner o " +
+            "WHERE r.id = :requestId AND i.available = true")
+    List<ItemRequestRow> findWithItemsAndSuggestionsById(@Param("requestId") Long requestId);
 
 }
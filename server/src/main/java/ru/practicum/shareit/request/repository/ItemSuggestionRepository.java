@@ -0,0 +1,20 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.request.model.ItemSuggestion;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemSuggestionRepository extends JpaRepository<ItemSuggestion, Long> {
+
+    // подобранные вещи, которые все еще доступны, вместе с владельцами
+    @Query("SELECT s FROM ItemSuggestion s " +
+            "JOIN FETCH s.item i " +
+            "JOIN FETCH i.owner " +
+            "WHERE s.request.id IN :requestIds AND i.available = true " +
+            "ORDER BY s.score DESC, i.id")
+    List<ItemSuggestion> findAllAvailableByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
+}
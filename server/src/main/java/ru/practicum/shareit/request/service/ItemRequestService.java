@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.service;
 
 import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
 import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
 
 import java.util.List;
 
@@ -11,7 +12,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDtoOut> getOwnerRequests(Long userId);
 
-    List<ItemRequestDtoOut> getAllRequests(Long userId, Integer from, Integer size);
+    ItemRequestPage getAllRequests(Long userId, int from, int size, String cursor);
 
     ItemRequestDtoOut getRequestByIdWithItems(Long userId, Long requestId);
 }
@@ -1,40 +1,60 @@
 package ru.practicum.shareit.request.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
 import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemSuggestionRepository;
+import ru.practicum.shareit.request.suggestion.ItemRequestCreatedEvent;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.utility.CursorCodec;
+import ru.practicum.shareit.utility.OffsetBasedPageRequest;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Observed(name = "shareit.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "created", "id");
+    private static final Comparator<ItemRequestRow> BEST_SUGGESTIONS_FIRST =
+            Comparator.comparing(ItemRequestRow::suggestionScore).reversed().thenComparing(ItemRequestRow::itemId);
+
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSuggestionRepository itemSuggestionRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final ItemRequestMapper itemRequestMapper;
     private final ItemMapper itemMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -44,45 +64,83 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         ItemRequest request = itemRequestMapper.toRequest(itemRequestDtoIn);
         request.setCreated(LocalDateTime.now());
         request.setRequestor(user);
-        return itemRequestMapper.toRequestDtoOut(itemRequestRepository.save(request));
+        ItemRequest saved = itemRequestRepository.save(request);
+        eventPublisher.publishEvent(new ItemRequestCreatedEvent(saved.getId(), userId, saved.getDescription()));
+        return itemRequestMapper.toRequestDtoOut(saved);
     }
 
     @Override
     public List<ItemRequestDtoOut> getOwnerRequests(Long userId) {
         log.info("получить список своих запросов с ID:{}", userId);
-        findUserById(userId);
+        userService.getUserById(userId);
         List<ItemRequest> requests = itemRequestRepository.findAllByRequestorIdOrderByCreatedDesc(userId);
         return addItems(requests);
     }
 
     @Override
-    public List<ItemRequestDtoOut> getAllRequests(Long userId, Integer from, Integer size) {
-        log.info("получить список запросов, созданных другими пользователями");
-        findUserById(userId);
-        Pageable pageable = PageRequest.of(from / size, size, Sort.by("created").descending());
-        List<ItemRequest> requests = itemRequestRepository.findAllByRequestorIdIsNot(userId, pageable);
-        return addItems(requests);
+    public ItemRequestPage getAllRequests(Long userId, int from, int size, String cursor) {
+        log.info("получить список запросов, созданных другими пользователями, from = {}, size = {}, cursor = {}",
+                from, size, cursor);
+        if (from < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Некорректные параметры страницы: from = " + from + ", size = " + size);
+        }
+        RequestPosition after = cursor == null ? null : RequestPosition.decode(cursor);
+        userService.getUserById(userId);
+        List<ItemRequest> requests = after == null
+                ? itemRequestRepository.findAllByRequestorIdIsNot(userId,
+                new OffsetBasedPageRequest(from, size, NEWEST_FIRST))
+                : itemRequestRepository.findAllByRequestorIdIsNotAfter(userId, after.created(), after.id(),
+                Limit.of(size));
+        String nextCursor = null;
+        if (requests.size() == size) {
+            ItemRequest last = requests.get(requests.size() - 1);
+            nextCursor = new RequestPosition(last.getCreated(), last.getId()).encode();
+        }
+        return new ItemRequestPage(addItems(requests), nextCursor);
     }
 
     @Override
     public ItemRequestDtoOut getRequestByIdWithItems(Long userId, Long requestId) {
         log.info("получить запрос с ID:{}", requestId);
-        findUserById(userId);
-        ItemRequest request = itemRequestRepository.findById(requestId).orElseThrow(
-                () -> new NotFoundException("Запрос с ID " + requestId + " не найден"));
-        ItemRequestDtoOut requestDtoOut = itemRequestMapper.toRequestDtoOut(request);
-        requestDtoOut.setItems((itemRepository.findAllByOwnerId(userId).stream()
-                .map(itemMapper::toItemDtoOut)
-                .toList()));
-        return requestDtoOut;
+        userService.getUserById(userId);
+        List<ItemRequestRow> rows = itemRequestRepository.findWithItemsAndSuggestionsById(requestId);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Запрос с ID " + requestId + " не найден");
+        }
+        ItemRequestRow request = rows.get(0);
+        return ItemRequestDtoOut.builder()
+                .id(request.id())
+                .description(request.description())
+                .created(request.created())
+                .requestorId(request.requestorId())
+                .items(rows.stream()
+                        .filter(row -> row.itemId() != null && row.suggestionScore() == null)
+                        .sorted(Comparator.comparing(ItemRequestRow::itemId))
+                        .map(itemMapper::toItemDtoOut)
+                        .toList())
+                .suggestions(rows.stream()
+                        .filter(row -> row.suggestionScore() != null)
+                        .sorted(BEST_SUGGESTIONS_FIRST)
+                        .map(itemMapper::toItemDtoOut)
+                        .toList())
+                .build();
     }
 
-
     private User findUserById(Long userId) {
         return userRepository.findById(userId).orElseThrow(
                 () -> new NotFoundException("Пользователь с ID " + userId + " не найден"));
     }
 
+    private Map<Long, List<ItemDtoOut>> findSuggestions(List<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+        return itemSuggestionRepository.findAllAvailableByRequestIdIn(requestIds).stream()
+                .collect(Collectors.groupingBy(suggestion -> suggestion.getRequest().getId(),
+                        Collectors.mapping(suggestion -> itemMapper.toItemDtoOut(suggestion.getItem()),
+                                Collectors.toList())));
+    }
+
     private List<ItemRequestDtoOut> addItems(List<ItemRequest> requests) {
         log.debug("Добавление вещей {}", requests);
         List<Long> requestIds = requests.stream()
@@ -92,6 +150,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         log.debug("Найдено {} вещей для запросов", items.size());
         Map<Long, List<Item>> itemsByRequestId = items.stream()
                 .collect(Collectors.groupingBy(item -> item.getRequest().getId()));
+        Map<Long, List<ItemDtoOut>> suggestionsByRequestId = findSuggestions(requestIds);
         return requests.stream()
                 .map(request -> {
                     ItemRequestDtoOut itemRequestDtoOut = itemRequestMapper.toRequestDtoOut(request);
@@ -100,9 +159,28 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                             .map(itemMapper::toItemDtoOut)
                             .toList();
                     itemRequestDtoOut.setItems(itemDtoOuts);
+                    itemRequestDtoOut.setSuggestions(suggestionsByRequestId.getOrDefault(request.getId(), List.of()));
                     return itemRequestDtoOut;
                 })
                 .toList();
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Позиция в ленте запросов: лента упорядочена по убыванию даты создания, при равных датах — по убыванию id.
+     */
+    private record RequestPosition(LocalDateTime created, long id) {
+        static RequestPosition decode(String cursor) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                return new RequestPosition(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new ValidationException("Некорректный курсор: " + cursor);
+            }
+        }
+
+        String encode() {
+            return CursorCodec.encode(created.toString(), String.valueOf(id));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.request.suggestion;
+
+/**
+ * Публикуется при создании запроса; подбор вещей к нему начинается после коммита транзакции.
+ */
+public record ItemRequestCreatedEvent(Long requestId, Long requestorId, String description) {
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.request.suggestion;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.model.ItemSuggestion;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemSuggestionRepository;
+
+import java.util.List;
+
+/**
+ * Подбирает к новому запросу уже выставленные вещи по словам его описания и сохраняет лучшие из них.
+ * Подбор выполняется асинхронно после коммита транзакции, создавшей запрос, и не задерживает ответ на него.
+ * Используется поисковый индекс в памяти; если индекс выключен, вещи не подбираются.
+ */
+@Slf4j
+@Component
+public class ItemSuggestionMatcher {
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemSuggestionRepository itemSuggestionRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+    private final int limit;
+
+    public ItemSuggestionMatcher(ItemSearchIndex itemSearchIndex,
+                                 ItemSuggestionRepository itemSuggestionRepository,
+                                 ItemRequestRepository itemRequestRepository,
+                                 ItemRepository itemRepository,
+                                 @Value("${shareit.requests.suggestions.limit:5}") int limit) {
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemSuggestionRepository = itemSuggestionRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.itemRepository = itemRepository;
+        this.limit = limit;
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRequestCreated(ItemRequestCreatedEvent event) {
+        match(event);
+    }
+
+    /**
+     * Сохраняет до limit вещей других пользователей, подходящих к описанию запроса.
+     */
+    @Transactional
+    public List<ItemSuggestion> match(ItemRequestCreatedEvent event) {
+        if (!itemSearchIndex.isReady()) {
+            return List.of();
+        }
+        List<ItemSuggestion> suggestions = itemSearchIndex.match(event.description(), event.requestorId(), limit)
+                .stream()
+                .map(match -> ItemSuggestion.builder()
+                        .request(itemRequestRepository.getReferenceById(event.requestId()))
+                        .item(itemRepository.getReferenceById(match.id()))
+                        .score(match.score())
+                        .build())
+                .toList();
+        log.debug("Для запроса с ID {} подобрано вещей: {}", event.requestId(), suggestions.size());
+        return itemSuggestionRepository.saveAll(suggestions);
+    }
+}
@@ -1,7 +1,11 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -13,8 +17,11 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import java.util.List;
 import java.util.Optional;
 
+import static ru.practicum.shareit.config.CacheConfig.USERS_CACHE;
+
 @Slf4j
 @Service
+@Observed(name = "shareit.service")
 @Transactional
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
@@ -31,6 +38,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(cacheNames = USERS_CACHE)
     public UserDto getUserById(Long userId) {
         log.info("Получение пользователя с Id {}", userId);
         User user = userRepository.findById(userId).orElseThrow(
@@ -39,24 +47,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CachePut(cacheNames = USERS_CACHE, key = "#result.id")
     public UserDto saveUser(UserDto userDto) {
         log.info("Сохранение нового пользователя {}", userDto);
-        User user = userRepository.save(userMapper.toUser(userDto));
+        // flush сразу: нарушение уникальности email должно вылететь здесь, а не при коммите
+        User user = userRepository.saveAndFlush(userMapper.toUser(userDto));
         return userMapper.toUserDto(user);
     }
 
     @Override
+    @CachePut(cacheNames = USERS_CACHE, key = "#userId")
     public UserDto update(Long userId, UserDto userDto) {
         log.info("Обновление пользователя {}", userDto);
         User user = userRepository.findById(userId).orElseThrow(
                 () -> new NotFoundException("Пользователь с ID:" + userId + " не найден"));
         Optional.ofNullable(userDto.getName()).ifPresent(user::setName);
         Optional.ofNullable(userDto.getEmail()).ifPresent(user::setEmail);
-        userRepository.save(user);
+        userRepository.saveAndFlush(user);
         return userMapper.toUserDto(user);
     }
 
     @Override
+    @CacheEvict(cacheNames = USERS_CACHE)
     public void delete(Long userId) {
         log.info("Удаление пользователя с Id {}", userId);
         userRepository.deleteById(userId);
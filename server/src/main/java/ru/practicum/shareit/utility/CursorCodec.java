@@ -0,0 +1,33 @@
+package ru.practicum.shareit.utility;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Кодирует позицию keyset-пагинации в непрозрачную для клиента строку.
+ */
+@UtilityClass
+public class CursorCodec {
+    private static final String SEPARATOR = "|";
+
+    public String encode(String... parts) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String[] decode(String cursor, int expectedParts) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new ValidationException("Некорректный курсор: " + cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Некорректный курсор: " + cursor);
+        }
+    }
+}
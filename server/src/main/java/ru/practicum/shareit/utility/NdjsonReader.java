@@ -0,0 +1,64 @@
+package ru.practicum.shareit.utility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Читает поток NDJSON (по одному JSON-объекту в строке) по мере обращения, не загружая тело запроса в память.
+ * Пустые строки пропускаются; строка с некорректным JSON приводит к {@link ValidationException} с её номером.
+ */
+public class NdjsonReader<T> implements Iterator<T> {
+    private final ObjectReader reader;
+    private final BufferedReader lines;
+    private String nextLine;
+    private int lineNumber;
+
+    public NdjsonReader(ObjectMapper objectMapper, InputStream body, Class<T> type) {
+        this.reader = objectMapper.readerFor(type);
+        this.lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = lines.readLine();
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Некорректный JSON в строке " + lineNumber + ": " + e.getOriginalMessage());
+        }
+    }
+}
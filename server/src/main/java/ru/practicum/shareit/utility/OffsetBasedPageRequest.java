@@ -0,0 +1,74 @@
+package ru.practicum.shareit.utility;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Pageable, который начинает выборку ровно с элемента {@code from}, а не с начала страницы.
+ */
+public class OffsetBasedPageRequest implements Pageable {
+    private final long offset;
+    private final int size;
+    private final Sort sort;
+
+    public OffsetBasedPageRequest(long offset, int size, Sort sort) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Смещение не может быть отрицательным");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Размер страницы должен быть больше нуля");
+        }
+        this.offset = offset;
+        this.size = size;
+        this.sort = sort;
+    }
+
+    public OffsetBasedPageRequest(long offset, int size) {
+        this(offset, size, Sort.unsorted());
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / size);
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetBasedPageRequest(offset + size, size, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetBasedPageRequest(Math.max(offset - size, 0), size, sort) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetBasedPageRequest(0, size, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetBasedPageRequest((long) pageNumber * size, size, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
@@ -0,0 +1,10 @@
+-- вещи, подобранные к запросу по словам его описания; уникальный индекс обслуживает и выборку по request_id
+CREATE SEQUENCE IF NOT EXISTS request_suggestions_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS request_suggestions (
+    id BIGINT PRIMARY KEY,
+    request_id BIGINT NOT NULL REFERENCES requests (id) ON DELETE CASCADE,
+    item_id BIGINT NOT NULL REFERENCES items (id) ON DELETE CASCADE,
+    score INTEGER NOT NULL,
+    CONSTRAINT request_suggestions_request_item_uq UNIQUE (request_id, item_id)
+);
@@ -0,0 +1,15 @@
+-- бронирования пользователя: фильтр по booker_id, сортировка по start_date
+CREATE INDEX IF NOT EXISTS bookings_booker_start_idx ON bookings (booker_id, start_date DESC);
+
+-- бронирования вещи: lastBooking/nextBooking, проверка перед комментарием, бронирования владельца через items
+CREATE INDEX IF NOT EXISTS bookings_item_status_start_idx ON bookings (item_id, status, start_date);
+
+CREATE INDEX IF NOT EXISTS items_owner_idx ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS items_request_idx ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS comments_item_idx ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS requests_requestor_created_idx ON requests (requestor_id, created DESC);
+
+CREATE INDEX IF NOT EXISTS requests_created_idx ON requests (created DESC);
@@ -0,0 +1,2 @@
+-- id вещей выдаются блоками по 50 (pooled-lo), чтобы Hibernate мог отправлять вставки пачками
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
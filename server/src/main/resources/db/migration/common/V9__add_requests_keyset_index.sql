@@ -0,0 +1,4 @@
+-- лента чужих запросов: сортировка и курсор по (created, id), id разрешает равные даты создания
+CREATE INDEX IF NOT EXISTS requests_created_id_idx ON requests (created DESC, id DESC);
+
+DROP INDEX IF EXISTS requests_created_idx;
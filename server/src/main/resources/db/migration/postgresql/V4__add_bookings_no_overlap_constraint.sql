@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- активные бронирования одной вещи не пересекаются; [start_date, end_date) - полуоткрытый период
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_no_overlap
+        EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+        WHERE (status IN ('WAITING', 'APPROVED'));
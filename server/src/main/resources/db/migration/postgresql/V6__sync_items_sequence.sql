@@ -0,0 +1,2 @@
+-- продолжаем нумерацию после вещей, созданных через IDENTITY
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM items), false);
@@ -0,0 +1,8 @@
+-- продолжаем нумерацию после строк, созданных через IDENTITY
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM users), false);
+
+SELECT setval('requests_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM requests), false);
+
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM bookings), false);
+
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM comments), false);
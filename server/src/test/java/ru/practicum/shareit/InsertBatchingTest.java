@@ -0,0 +1,71 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет по статистике Hibernate, что вставки уходят в базу JDBC-пачками: с IDENTITY каждая строка
+ * требовала отдельного запроса, с pooled-lo последовательностями на 100 строк нужны два обращения
+ * к последовательности и две пачки вставок.
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class InsertBatchingTest {
+    private static final int ROWS = 100;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+
+    @Test
+    void testBookingsAndCommentsAreInsertedInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Дрель").description("Дрель").available(true)
+                .owner(owner).build());
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Booking> bookings = IntStream.range(0, ROWS)
+                .mapToObj(i -> Booking.builder().item(item).booker(booker).start(now.plusDays(i))
+                        .end(now.plusDays(i).plusHours(1)).status(Booking.BookingStatus.APPROVED).build())
+                .toList();
+        List<Comment> comments = IntStream.range(0, ROWS)
+                .mapToObj(i -> Comment.builder().item(item).author(booker).text("Отзыв " + i).created(now).build())
+                .toList();
+        bookingRepository.saveAll(bookings);
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        assertEquals(2 * ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 8,
+                "подготовлено запросов: " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверяет, что таймеры сервисов, репозиториев и эндпоинтов с гистограммами, счётчики состояний
+ * бронирований и метрики кеша и пула соединений попадают в /actuator/prometheus.
+ */
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class MetricsTest {
+    private final MockMvc mvc;
+    private final UserService userService;
+    private final BookingService bookingService;
+
+    @Test
+    void testPrometheusEndpointExposesApplicationMetrics() throws Exception {
+        UserDto user = userService.saveUser(UserDto.builder().name("Metrics").email("metrics@mail.ru").build());
+        mvc.perform(get("/users/{userId}", user.getId())).andExpect(status().isOk());
+        bookingService.getAllUserBooking(user.getId(), State.PAST, 0, 10);
+
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("shareit_service_seconds_bucket{"
+                        + "class=\"ru.practicum.shareit.booking.service.BookingServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString(
+                        "shareit_booking_queries_total{role=\"booker\",state=\"PAST\"} 1.0")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"users\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active{")));
+    }
+}
@@ -0,0 +1,242 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemSuggestionRepository;
+import ru.practicum.shareit.utility.OffsetBasedPageRequest;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Проверяет по EXPLAIN, что запросы репозиториев на заполненной базе обходятся без полного сканирования таблиц.
+ * Проверяется SQL, который репозитории действительно отправляют в базу: он перехватывается через datasource-proxy
+ * и разбирается с теми же значениями параметров.
+ * Схема создается миграциями Flyway в отдельной базе, чтобы проверялись именно объявленные в них индексы.
+ * H2 неявно индексирует внешние ключи, а PostgreSQL нет, поэтому перед проверкой внешние ключи удаляются.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:shareit-indexes;DB_CLOSE_DELAY=-1",
+        "shareit.search.index.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SchemaIndexesTest {
+    private static final int USERS = 200;
+    private static final int ITEMS_PER_USER = 5;
+    private static final int BOOKINGS_PER_ITEM = 4;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatementCapture statementCapture;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemSuggestionRepository itemSuggestionRepository;
+
+    @BeforeAll
+    void seed() {
+        dropForeignKeys();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        long itemId = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[]{userId, "user" + userId, "user" + userId + "@mail.ru"});
+            requests.add(new Object[]{userId, "request" + userId, userId, Timestamp.valueOf(base.plusHours(userId))});
+            for (int i = 0; i < ITEMS_PER_USER; i++) {
+                itemId++;
+                items.add(new Object[]{itemId, "item" + itemId, "item" + itemId, true, userId,
+                        i == 0 ? userId : null});
+                comments.add(new Object[]{"comment" + itemId, itemId, userId % USERS + 1,
+                        Timestamp.valueOf(base.plusHours(itemId))});
+                for (int b = 0; b < BOOKINGS_PER_ITEM; b++) {
+                    LocalDateTime start = base.plusDays(b * 60L).plusHours(itemId);
+                    bookings.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(1)), itemId,
+                            (userId + b) % USERS + 1, b % 2 == 0 ? "APPROVED" : "WAITING"});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, description, requestor_id, created) VALUES (?, ?, ?, ?)",
+                requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, available, owner_id, request_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) " +
+                "VALUES (?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)",
+                comments);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private void dropForeignKeys() {
+        jdbcTemplate.queryForList("SELECT table_name, constraint_name FROM information_schema.table_constraints " +
+                        "WHERE constraint_type = 'FOREIGN KEY' AND table_schema = 'PUBLIC'")
+                .forEach(row -> jdbcTemplate.execute("ALTER TABLE " + row.get("TABLE_NAME") +
+                        " DROP CONSTRAINT " + row.get("CONSTRAINT_NAME")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    void queryDoesNotScanWholeTable(String repositoryMethod, Runnable call) {
+        List<QueryInfo> queries = statementCapture.capture(call);
+
+        assertFalse(queries.isEmpty(), repositoryMethod + " не выполнил ни одного запроса");
+        queries.forEach(query -> {
+            String plan = explain(query);
+            assertFalse(plan.contains("tableScan"),
+                    repositoryMethod + " сканирует таблицу целиком:\n" + query.getQuery() + "\n" + plan);
+        });
+    }
+
+    // EXPLAIN запроса, отправленного репозиторием, с теми же значениями параметров
+    private String explain(QueryInfo query) {
+        List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                ? List.of() : query.getParametersList().get(0);
+        return jdbcTemplate.execute("EXPLAIN " + query.getQuery(), (PreparedStatementCallback<String>) statement -> {
+            for (ParameterSetOperation parameter : parameters) {
+                try {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Не удалось передать параметр запроса", e);
+                }
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    Stream<Arguments> repositoryCalls() {
+        Pageable page = new OffsetBasedPageRequest(0, 10, Sort.by(Sort.Direction.DESC, "start", "id"));
+        Pageable requestPage = new OffsetBasedPageRequest(0, 10, Sort.by(Sort.Direction.DESC, "created", "id"));
+        List<Long> ids = List.of(7L, 8L, 9L);
+        return Stream.of(
+                call("BookingRepository.findByBookerId", () -> bookingRepository.findByBookerId(7L, page)),
+                call("BookingRepository.findByBookerIdAndStartBeforeAndEndAfter",
+                        () -> bookingRepository.findByBookerIdAndStartBeforeAndEndAfter(7L, NOW, NOW, page)),
+                call("BookingRepository.findByBookerIdAndEndBefore",
+                        () -> bookingRepository.findByBookerIdAndEndBefore(7L, NOW, page)),
+                call("BookingRepository.findByBookerIdAndStartAfter",
+                        () -> bookingRepository.findByBookerIdAndStartAfter(7L, NOW, page)),
+                call("BookingRepository.findByBookerIdAndStatus",
+                        () -> bookingRepository.findByBookerIdAndStatus(7L, Booking.BookingStatus.WAITING, page)),
+                call("BookingRepository.findByItemOwnerId", () -> bookingRepository.findByItemOwnerId(7L, page)),
+                call("BookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter",
+                        () -> bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter(7L, NOW, NOW, page)),
+                call("BookingRepository.findByItemOwnerIdAndEndBefore",
+                        () -> bookingRepository.findByItemOwnerIdAndEndBefore(7L, NOW, page)),
+                call("BookingRepository.findByItemOwnerIdAndStartAfter",
+                        () -> bookingRepository.findByItemOwnerIdAndStartAfter(7L, NOW, page)),
+                call("BookingRepository.findByItemOwnerIdAndStatus",
+                        () -> bookingRepository.findByItemOwnerIdAndStatus(7L, Booking.BookingStatus.WAITING, page)),
+                call("BookingRepository.findById", () -> bookingRepository.findById(7L)),
+                call("BookingRepository.findFirstByItemIdAndStartAfterAndStatus",
+                        () -> bookingRepository.findFirstByItemIdAndStartAfterAndStatus(7L, NOW,
+                                Booking.BookingStatus.APPROVED, Sort.by("end"))),
+                call("BookingRepository.findFirstByItemIdAndStartLessThanEqualAndStatus",
+                        () -> bookingRepository.findFirstByItemIdAndStartLessThanEqualAndStatus(7L, NOW,
+                                Booking.BookingStatus.APPROVED, Sort.by(Sort.Direction.DESC, "end"))),
+                call("BookingRepository.findLastAndNextApprovedByItemIds",
+                        () -> bookingRepository.findLastAndNextApprovedByItemIds(ids, NOW)),
+                call("BookingRepository.findByBookerIdAndItemIdAndStatusAndEndBefore",
+                        () -> bookingRepository.findByBookerIdAndItemIdAndStatusAndEndBefore(7L, 7L,
+                                Booking.BookingStatus.APPROVED, NOW)),
+                call("BookingRepository.findAllByItemIdAndStatusInAndEndAfter",
+                        () -> bookingRepository.findAllByItemIdAndStatusInAndEndAfter(7L,
+                                List.of(Booking.BookingStatus.WAITING, Booking.BookingStatus.APPROVED), NOW)),
+                call("ItemRepository.findAllByOwnerId", () -> itemRepository.findAllByOwnerId(7L)),
+                call("ItemRepository.findAllAvailableByIdIn", () -> itemRepository.findAllAvailableByIdIn(ids)),
+                call("ItemRepository.findAllWithOwnerByIdIn", () -> itemRepository.findAllWithOwnerByIdIn(ids)),
+                call("ItemRepository.findAllByRequestId", () -> itemRepository.findAllByRequestId(7L)),
+                call("ItemRepository.findAllByRequestIds", () -> itemRepository.findAllByRequestIds(ids)),
+                call("CommentRepository.findAllByItemId", () -> commentRepository.findAllByItemId(7L)),
+                call("CommentRepository.findAllByItemIdIn", () -> commentRepository.findAllByItemIdIn(ids)),
+                call("ItemRequestRepository.findAllByRequestorIdOrderByCreatedDesc",
+                        () -> itemRequestRepository.findAllByRequestorIdOrderByCreatedDesc(7L)),
+                call("ItemRequestRepository.findAllByRequestorIdIsNot",
+                        () -> itemRequestRepository.findAllByRequestorIdIsNot(7L, requestPage)),
+                call("ItemRequestRepository.findAllByRequestorIdIsNotAfter",
+                        () -> itemRequestRepository.findAllByRequestorIdIsNotAfter(7L, NOW, 7L, Limit.of(10))),
+                call("ItemRequestRepository.findWithItemsAndSuggestionsById",
+                        () -> itemRequestRepository.findWithItemsAndSuggestionsById(7L)),
+                call("ItemSuggestionRepository.findAllAvailableByRequestIdIn",
+                        () -> itemSuggestionRepository.findAllAvailableByRequestIdIn(ids))
+        );
+    }
+
+    private static Arguments call(String repositoryMethod, Runnable call) {
+        return Arguments.of(repositoryMethod, call);
+    }
+
+    /**
+     * Запоминает запросы, которые приложение отправляет в базу, пока выполняется вызов репозитория.
+     */
+    static class StatementCapture implements QueryExecutionListener {
+        private final List<QueryInfo> queries = new CopyOnWriteArrayList<>();
+        private volatile boolean capturing;
+
+        List<QueryInfo> capture(Runnable call) {
+            queries.clear();
+            capturing = true;
+            try {
+                call.run();
+            } finally {
+                capturing = false;
+            }
+            return List.copyOf(queries);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (capturing) {
+                queries.addAll(queryInfoList);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+        @Bean
+        StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверяет, что входящий traceparent продолжается спанами сервиса и JDBC-запросов и что спаны пишутся в файл,
+ * а запросы без сэмплированной родительской трассы по умолчанию не записываются.
+ */
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TracingTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final Path SPANS;
+
+    static {
+        try {
+            SPANS = Files.createTempFile("spans", ".jsonl");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final MockMvc mvc;
+    private final UserService userService;
+
+    @DynamicPropertySource
+    static void tracingFile(DynamicPropertyRegistry registry) {
+        registry.add("shareit.tracing.file", SPANS::toString);
+    }
+
+    @Test
+    void testIncomingTraceContinuesThroughServiceAndJdbcSpans() throws Exception {
+        UserDto user = userService.saveUser(UserDto.builder().name("Tracing").email("tracing@mail.ru").build());
+
+        mvc.perform(get("/bookings").param("state", "ALL")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk());
+
+        List<String> spans = Files.readAllLines(SPANS).stream()
+                .filter(span -> span.contains(TRACE_ID))
+                .toList();
+        assertTrue(spans.stream().anyMatch(span -> span.contains("\"parentId\":\"00f067aa0ba902b7\"")
+                && span.contains("\"kind\":\"SERVER\"")));
+        assertTrue(spans.stream().anyMatch(span -> span.contains("\"name\":\"booking-service-impl#get-all-user-booking\"")));
+        assertTrue(spans.stream().anyMatch(span -> span.contains("\"name\":\"query\"")
+                && span.contains("from bookings")));
+    }
+
+    @Test
+    void testRequestsWithoutSampledParentAreNotRecordedByDefault() throws Exception {
+        UserDto user = userService.saveUser(UserDto.builder().name("Unsampled").email("unsampled@mail.ru").build());
+        long before = Files.readAllLines(SPANS).size();
+
+        mvc.perform(get("/bookings").param("state", "ALL").header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(before, Files.readAllLines(SPANS).size());
+    }
+}
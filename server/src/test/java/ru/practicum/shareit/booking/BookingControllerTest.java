@@ -12,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.controller.BookingController;
 import ru.practicum.shareit.booking.dto.BookingDtoIn;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.event.BookingEventBus;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -24,6 +25,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -40,6 +42,9 @@ public class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private BookingEventBus bookingEventBus;
+
     private BookingDtoIn bookingDtoIn;
     private BookingDtoOut bookingDtoOut;
     private UserDto userDto;
@@ -130,7 +135,7 @@ public class BookingControllerTest {
 
     @Test
     void getAllUserBooking_validRequest_returnListOfBookings() throws Exception {
-        when(bookingService.getAllUserBooking(anyLong(), any(State.class))).thenReturn(List.of(bookingDtoOut));
+        when(bookingService.getAllUserBooking(anyLong(), any(State.class), anyInt(), anyInt())).thenReturn(List.of(bookingDtoOut));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
@@ -141,7 +146,7 @@ public class BookingControllerTest {
 
     @Test
     void getAllOwnerBooking_validRequest_returnListOfBookings() throws Exception {
-        when(bookingService.getAllOwnerBooking(anyLong(), any(State.class))).thenReturn(List.of(bookingDtoOut));
+        when(bookingService.getAllOwnerBooking(anyLong(), any(State.class), anyInt(), anyInt())).thenReturn(List.of(bookingDtoOut));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
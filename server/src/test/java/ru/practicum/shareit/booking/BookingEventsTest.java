@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.booking.dto.BookingDtoIn;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.event.BookingEventBus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDtoIn;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * События отправляются после коммита, поэтому тест работает без общей транзакции
+ * и удаляет созданных пользователей, а вместе с ними их вещи и бронирования.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingEventsTest {
+    private final MockMvc mvc;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final BookingEventBus bookingEventBus;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userIds.forEach(userService::delete);
+    }
+
+    @Test
+    void bookerAndOwnerReceiveStatusChanges() throws Exception {
+        UserDto owner = saveUser("Owner", "owner@events.ru");
+        UserDto booker = saveUser("Booker", "booker@events.ru");
+        UserDto stranger = saveUser("Stranger", "stranger@events.ru");
+        ItemDtoOut item = itemService.addNewItem(owner.getId(),
+                ItemDtoIn.builder().name("Дрель").description("Аккумуляторная").available(true).build());
+        int subscribers = bookingEventBus.subscriberCount();
+        MvcResult ownerStream = subscribe(owner.getId());
+        MvcResult bookerStream = subscribe(booker.getId());
+        MvcResult strangerStream = subscribe(stranger.getId());
+        assertEquals(subscribers + 3, bookingEventBus.subscriberCount());
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingDtoOut booking = bookingService.addNewBooking(booker.getId(), BookingDtoIn.builder()
+                .itemId(item.getId()).start(start).end(start.plusDays(1)).build());
+        bookingService.approveBooking(owner.getId(), booking.getId(), true);
+
+        String ownerEvents = awaitContent(ownerStream, "\"APPROVED\"");
+        String bookerEvents = awaitContent(bookerStream, "\"APPROVED\"");
+        assertTrue(ownerEvents.contains("\"APPROVED\""));
+        assertTrue(bookerEvents.contains("\"APPROVED\""));
+        assertTrue(ownerEvents.contains("event:" + BookingEventBus.EVENT_NAME));
+        assertTrue(ownerEvents.contains("\"WAITING\""));
+        assertTrue(bookerEvents.contains("\"id\":" + booking.getId()));
+        assertEquals("", strangerStream.getResponse().getContentAsString());
+    }
+
+    @Test
+    void unknownUserCannotSubscribe() throws Exception {
+        mvc.perform(get("/bookings/events").header("X-Sharer-User-Id", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private MvcResult subscribe(Long userId) throws Exception {
+        return mvc.perform(get("/bookings/events").header("X-Sharer-User-Id", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private UserDto saveUser(String name, String email) {
+        UserDto user = userService.saveUser(UserDto.builder().name(name).email(email).build());
+        userIds.add(user.getId());
+        return user;
+    }
+}
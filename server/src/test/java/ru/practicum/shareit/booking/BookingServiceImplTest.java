@@ -0,0 +1,121 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDtoIn;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingServiceImplTest {
+    private final BookingService bookingService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+
+    private User owner;
+    private User booker;
+    private Booking booking;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        booker = userRepository.save(User.builder().name("Booker").email("booker@mail.ru").build());
+        for (int i = 0; i < 5; i++) {
+            User itemOwner = i % 2 == 0 ? owner
+                    : userRepository.save(User.builder().name("Owner" + i).email("owner" + i + "@mail.ru").build());
+            Item item = itemRepository.save(Item.builder().name("Вещь " + i).description("Вещь " + i)
+                    .available(true).owner(itemOwner).build());
+            booking = bookingRepository.save(Booking.builder().item(item).booker(booker)
+                    .start(now.plusDays(i + 1)).end(now.plusDays(i + 2)).status(Booking.BookingStatus.WAITING)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllUserBookingLoadsItemsAndBookerWithTheBookingQuery() {
+        List<BookingDtoOut> bookings = bookingService.getAllUserBooking(booker.getId(), State.ALL, 0, 10);
+
+        assertEquals(5, bookings.size());
+        assertEquals("Вещь 4", bookings.get(0).getItem().getName());
+        assertEquals("Booker", bookings.get(0).getBooker().getName());
+        // проверка пользователя и сам список бронирований
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllOwnerBookingLoadsItemsAndBookerWithTheBookingQuery() {
+        List<BookingDtoOut> bookings = bookingService.getAllOwnerBooking(owner.getId(), State.FUTURE, 0, 10);
+
+        assertEquals(3, bookings.size());
+        bookings.forEach(bookingDtoOut -> assertEquals("Booker", bookingDtoOut.getBooker().getName()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getBookingByIdLoadsItemOwnerWithTheBookingQuery() {
+        BookingDtoOut bookingDtoOut = bookingService.getBookingById(booking.getId(), booker.getId());
+
+        assertEquals(booking.getId(), bookingDtoOut.getId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void addNewBookingRejectsPeriodOverlappingActiveBooking() {
+        Long itemId = booking.getItem().getId();
+        BookingDtoIn overlapping = BookingDtoIn.builder().itemId(itemId)
+                .start(booking.getStart().plusHours(12)).end(booking.getEnd().plusDays(1)).build();
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> bookingService.addNewBooking(booker.getId(), overlapping));
+
+        assertTrue(exception.getMessage().startsWith("Вещь с Id " + itemId + " уже забронирована"));
+    }
+
+    @Test
+    void addNewBookingAcceptsAdjacentPeriodsAndRejectsTheSecondOverlap() {
+        Long itemId = booking.getItem().getId();
+        BookingDtoIn adjacent = BookingDtoIn.builder().itemId(itemId)
+                .start(booking.getEnd()).end(booking.getEnd().plusDays(1)).build();
+        BookingDtoIn overlappingAdjacent = BookingDtoIn.builder().itemId(itemId)
+                .start(booking.getEnd().plusHours(1)).end(booking.getEnd().plusHours(2)).build();
+
+        BookingDtoOut saved = bookingService.addNewBooking(booker.getId(), adjacent);
+
+        assertEquals(Booking.BookingStatus.WAITING, saved.getStatus());
+        assertThrows(ConflictException.class, () -> bookingService.addNewBooking(booker.getId(), overlappingAdjacent));
+    }
+}
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,23 +9,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.dto.BookingDtoIn;
 import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.booking.event.BookingStatusChangedEvent;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.schedule.BookingSchedule;
+import ru.practicum.shareit.booking.schedule.IntervalTree;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
 import ru.practicum.shareit.exception.AuthorizationException;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -32,6 +44,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -47,10 +60,24 @@ public class BookingServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserService userService;
 
     @Mock
     private BookingMapper bookingMapper;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private BookingSchedule bookingSchedule;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -122,7 +149,7 @@ public class BookingServiceTest {
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockUserRepositoryFindById();
             mockItemRepositoryFindById();
-            mockSaveBooking();
+            mockSaveAndFlushBooking();
 
             mockedMapper.when(() -> BookingMapper.toBooking(any(BookingDtoIn.class), any(User.class), any(Item.class), any(Booking.BookingStatus.class)))
                     .thenReturn(booking);
@@ -135,9 +162,10 @@ public class BookingServiceTest {
             assertEquals(bookingDtoOut.getId(), result.getId());
             assertEquals(bookingDtoOut.getStatus(), result.getStatus());
 
-            verify(bookingRepository).save(any(Booking.class));
+            verify(bookingRepository).saveAndFlush(any(Booking.class));
             verify(userRepository).findById(anyLong());
             verify(itemRepository).findById(anyLong());
+            verify(eventPublisher).publishEvent(any(BookingStatusChangedEvent.class));
         }
     }
 
@@ -158,6 +186,7 @@ public class BookingServiceTest {
 
             verify(bookingRepository).findById(anyLong());
             verify(bookingRepository).save(any(Booking.class));
+            verify(eventPublisher).publishEvent(new BookingStatusChangedEvent(bookingDtoOut, item.getOwner().getId()));
         }
     }
 
@@ -177,7 +206,6 @@ public class BookingServiceTest {
     @Test
     void getBookingById_ShouldReturnBooking() {
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
-            mockUserRepositoryFindById();
             mockBookingRepositoryFindById();
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
@@ -186,7 +214,7 @@ public class BookingServiceTest {
             assertionsFields(bookingDtoOut, result);
 
             verify(bookingRepository).findById(anyLong());
-            verify(userRepository).findById(anyLong());
+            verify(userService).getUserById(anyLong());
         }
     }
 
@@ -210,214 +238,239 @@ public class BookingServiceTest {
     @Test
     void getAllUserBooking_ShouldReturnAllBookings() {
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
-            mockUserRepositoryFindById();
-            when(bookingRepository.findByBookerId(anyLong())).thenReturn(new ArrayList<>(List.of(booking)));
+            when(bookingRepository.findByBookerId(anyLong(), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.ALL);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.ALL, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
 
-            verify(bookingRepository).findByBookerId(anyLong());
-            verify(userRepository).findById(anyLong());
+            verify(bookingRepository).findByBookerId(anyLong(), any(Pageable.class));
+            verify(userService).getUserById(anyLong());
         }
     }
 
+    @Test
+    void getAllUserBooking_ShouldRequestPageSortedByStartDesc() {
+        when(bookingRepository.findByBookerId(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        bookingService.getAllUserBooking(user.getId(), State.ALL, 15, 5);
+
+        verify(bookingRepository).findByBookerId(eq(user.getId()), argThat(page -> page.getOffset() == 15
+                && page.getPageSize() == 5
+                && page.getSort().equals(Sort.by(Sort.Direction.DESC, "start", "id"))));
+    }
+
+    @Test
+    void getAllBookings_ShouldCountQueriesByRoleAndState() {
+        when(bookingRepository.findByBookerId(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(), eq(Booking.BookingStatus.WAITING),
+                any(Pageable.class))).thenReturn(List.of());
+
+        bookingService.getAllUserBooking(user.getId(), State.ALL, 0, 10);
+        bookingService.getAllUserBooking(user.getId(), State.ALL, 0, 10);
+        bookingService.getAllOwnerBooking(user.getId(), State.WAITING, 0, 10);
+
+        assertEquals(2, meterRegistry.get("shareit.booking.queries").tags("role", "booker", "state", "ALL")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("shareit.booking.queries").tags("role", "owner", "state", "WAITING")
+                .counter().count());
+    }
+
+    @Test
+    void getAllUserBooking_ShouldThrowValidationException_WhenPageIsInvalid() {
+
+        assertThrows(ValidationException.class,
+                () -> bookingService.getAllUserBooking(user.getId(), State.ALL, -1, 10));
+        assertThrows(ValidationException.class,
+                () -> bookingService.getAllUserBooking(user.getId(), State.ALL, 0, 0));
+        assertThrows(ValidationException.class,
+                () -> bookingService.getAllOwnerBooking(user.getId(), State.ALL, 0, Integer.MAX_VALUE));
+        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+    }
+
     @Test
     void getAllUserBooking_ShouldReturnCurrentBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByBookerIdAndStartBeforeAndEndAfter(anyLong(), any(LocalDateTime.class),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.CURRENT);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.CURRENT, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByBookerIdAndStartBeforeAndEndAfter(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+            verify(bookingRepository).findByBookerIdAndStartBeforeAndEndAfter(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllUserBooking_ShouldReturnPastBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByBookerIdAndEndBefore(anyLong(),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.PAST);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.PAST, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class));
+            verify(bookingRepository).findByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllUserBooking_ShouldReturnFutureBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByBookerIdAndStartAfter(anyLong(),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.FUTURE);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.FUTURE, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class));
+            verify(bookingRepository).findByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllUserBooking_ShouldReturnWaitingBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByBookerIdAndStatus(anyLong(),
-                any(Booking.BookingStatus.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(Booking.BookingStatus.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.WAITING);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.WAITING, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByBookerIdAndStatus(anyLong(), any(Booking.BookingStatus.class));
+            verify(bookingRepository).findByBookerIdAndStatus(anyLong(), any(Booking.BookingStatus.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllUserBooking_ShouldReturnRejectedBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByBookerIdAndStatus(anyLong(),
-                any(Booking.BookingStatus.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(Booking.BookingStatus.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.REJECTED);
+            List<BookingDtoOut> result = bookingService.getAllUserBooking(user.getId(), State.REJECTED, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByBookerIdAndStatus(anyLong(), any(Booking.BookingStatus.class));
+            verify(bookingRepository).findByBookerIdAndStatus(anyLong(), any(Booking.BookingStatus.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllUserBooking_ShouldReturnIllegalArgumentException_thenStateUnknown() {
 
-        mockUserRepositoryFindById();
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> bookingService.getAllUserBooking(user.getId(), State.INVALID));
+                () -> bookingService.getAllUserBooking(user.getId(), State.INVALID, 0, 10));
 
         assertEquals("Неизвестное состояние: INVALID", exception.getMessage());
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnAllBookings() {
-        mockUserRepositoryFindById();
-        when(bookingRepository.findByItemOwnerId(anyLong())).thenReturn(new ArrayList<>(List.of(booking)));
+        when(bookingRepository.findByItemOwnerId(anyLong(), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.ALL);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.ALL, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByItemOwnerId(anyLong());
+            verify(bookingRepository).findByItemOwnerId(anyLong(), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnCurrentBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfter(anyLong(), any(LocalDateTime.class),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.CURRENT);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.CURRENT, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
             verify(bookingRepository).findByItemOwnerIdAndStartBeforeAndEndAfter(
-                    anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+                    anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnPastBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByItemOwnerIdAndEndBefore(anyLong(),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.PAST);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.PAST, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByItemOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class));
+            verify(bookingRepository).findByItemOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnFutureBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByItemOwnerIdAndStartAfter(anyLong(),
-                any(LocalDateTime.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(LocalDateTime.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.FUTURE);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.FUTURE, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByItemOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class));
+            verify(bookingRepository).findByItemOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnWaitingBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(),
-                any(Booking.BookingStatus.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(Booking.BookingStatus.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.WAITING);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.WAITING, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByItemOwnerIdAndStatus(anyLong(), any(Booking.BookingStatus.class));
+            verify(bookingRepository).findByItemOwnerIdAndStatus(anyLong(), any(Booking.BookingStatus.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnRejectedBookings() {
-        mockUserRepositoryFindById();
         when(bookingRepository.findByItemOwnerIdAndStatus(anyLong(),
-                any(Booking.BookingStatus.class))).thenReturn(new ArrayList<>(List.of(booking)));
+                any(Booking.BookingStatus.class), any(Pageable.class))).thenReturn(new ArrayList<>(List.of(booking)));
         try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
             mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
 
-            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.REJECTED);
+            List<BookingDtoOut> result = bookingService.getAllOwnerBooking(item.getId(), State.REJECTED, 0, 10);
 
             assertEquals(1, result.size());
             assertionsFields(bookingDtoOut, result.get(0));
-            verify(bookingRepository).findByItemOwnerIdAndStatus(anyLong(), any(Booking.BookingStatus.class));
+            verify(bookingRepository).findByItemOwnerIdAndStatus(anyLong(), any(Booking.BookingStatus.class), any(Pageable.class));
         }
     }
 
     @Test
     void getAllOwnerBooking_ShouldReturnIllegalArgumentException_thenStateUnknown() {
-        mockUserRepositoryFindById();
 
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class,
-                () -> bookingService.getAllOwnerBooking(user.getId(), State.INVALID));
+                () -> bookingService.getAllOwnerBooking(user.getId(), State.INVALID, 0, 10));
 
         assertEquals("Неизвестное состояние: INVALID", exception.getMessage());
     }
@@ -445,6 +498,73 @@ public class BookingServiceTest {
         assertEquals("Вещь не доступна для бронированя", exception.getMessage());
     }
 
+    @Test
+    void addNewBooking_ShouldThrowValidationException_WhenStartIsNotBeforeEnd() {
+        mockItemRepositoryFindById();
+        bookingDtoIn.setStart(bookingDtoIn.getEnd());
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.addNewBooking(user.getId(), bookingDtoIn));
+
+        assertEquals("Дата начала бронирования должна быть раньше даты окончания", exception.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void addNewBooking_ShouldThrowValidationException_WhenBookingIsTooLong() {
+        mockItemRepositoryFindById();
+        bookingDtoIn.setEnd(LocalDateTime.of(9999, 12, 31, 0, 0));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bookingService.addNewBooking(user.getId(), bookingDtoIn));
+
+        assertEquals("Бронирование не может быть длиннее 366 дней", exception.getMessage());
+        verify(bookingSchedule, never()).findOverlap(anyLong(), any(), any());
+    }
+
+    @Test
+    void addNewBooking_ShouldThrowConflictException_WhenPeriodIsBusy() {
+        mockItemRepositoryFindById();
+        when(bookingSchedule.findOverlap(item.getId(), bookingDtoIn.getStart(), bookingDtoIn.getEnd()))
+                .thenReturn(Optional.of(new IntervalTree.Interval(7L, bookingDtoIn.getStart(), bookingDtoIn.getEnd())));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> bookingService.addNewBooking(user.getId(), bookingDtoIn));
+
+        assertTrue(exception.getMessage().startsWith("Вещь с Id 1 уже забронирована с "));
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingSchedule, never()).book(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void addNewBooking_ShouldThrowConflictException_WhenConcurrentBookingTookThePeriod() {
+        try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
+            mockItemRepositoryFindById();
+            mockSaveAndFlushBooking();
+            mockedMapper.when(() -> BookingMapper.toBooking(any(BookingDtoIn.class), any(User.class), any(Item.class), any(Booking.BookingStatus.class)))
+                    .thenReturn(booking);
+            when(bookingSchedule.book(item.getId(), booking.getId(), booking.getStart(), booking.getEnd()))
+                    .thenReturn(Optional.of(new IntervalTree.Interval(7L, booking.getStart(), booking.getEnd())));
+
+            assertThrows(ConflictException.class, () -> bookingService.addNewBooking(user.getId(), bookingDtoIn));
+        }
+    }
+
+    @Test
+    void approveBooking_ShouldReleasePeriod_WhenRejected() {
+        try (MockedStatic<BookingMapper> mockedMapper = Mockito.mockStatic(BookingMapper.class)) {
+            booking.setStatus(Booking.BookingStatus.WAITING);
+            mockBookingRepositoryFindById();
+            mockSaveBooking();
+            mockedMapper.when(() -> BookingMapper.toBookingDtoOut(any(Booking.class))).thenReturn(bookingDtoOut);
+
+            bookingService.approveBooking(user.getId(), booking.getId(), false);
+
+            assertEquals(Booking.BookingStatus.REJECTED, booking.getStatus());
+            verify(bookingSchedule).release(item.getId(), booking.getId());
+        }
+    }
+
     @Test
     void approveBooking_ShouldThrowAuthorizationException_WhenUserIsNotOwner() {
         User anotherUser = User.builder().id(2L).build();
@@ -469,6 +589,10 @@ public class BookingServiceTest {
         lenient().when(bookingRepository.findById(any(Long.class))).thenReturn(Optional.of(booking));
     }
 
+    private void mockSaveAndFlushBooking() {
+        when(bookingRepository.saveAndFlush(any(Booking.class))).thenReturn(booking);
+    }
+
     private void mockSaveBooking() {
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
     }
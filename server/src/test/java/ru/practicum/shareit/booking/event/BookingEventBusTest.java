@@ -0,0 +1,130 @@
+package ru.practicum.shareit.booking.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingDtoOut;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BookingEventBusTest {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testStuckSubscriberDoesNotBlockPublisherOrOthers() throws Exception {
+        BookingEventBus bus = new BookingEventBus(mock(UserService.class), executor, Duration.ofMinutes(1),
+                emitters::poll);
+        RecordingEmitter owner = new RecordingEmitter();
+        emitters.add(new StuckEmitter());
+        emitters.add(owner);
+        bus.subscribe(1L);
+        bus.subscribe(2L);
+
+        long started = System.nanoTime();
+        bus.onStatusChanged(event(1L, 2L));
+        bus.heartbeat();
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 1_000);
+
+        assertTrue(owner.received.await(5, TimeUnit.SECONDS));
+        assertEquals(2, bus.subscriberCount());
+    }
+
+    @Test
+    void testStuckSubscriberIsDroppedAfterSendTimeout() throws Exception {
+        BookingEventBus bus = new BookingEventBus(mock(UserService.class), executor, Duration.ofMillis(100),
+                emitters::poll);
+        emitters.add(new StuckEmitter());
+        emitters.add(new RecordingEmitter());
+        bus.subscribe(1L);
+        bus.subscribe(2L);
+
+        bus.onStatusChanged(event(1L, 2L));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (bus.subscriberCount() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, bus.subscriberCount());
+    }
+
+    @Test
+    void testEventsAreDeliveredInPublicationOrder() throws Exception {
+        BookingEventBus bus = new BookingEventBus(mock(UserService.class), executor, Duration.ofMinutes(1),
+                emitters::poll);
+        RecordingEmitter booker = new RecordingEmitter(100);
+        emitters.add(booker);
+        bus.subscribe(1L);
+
+        for (long id = 1; id <= 100; id++) {
+            bus.onStatusChanged(new BookingStatusChangedEvent(booking(id, 1L), 1L));
+        }
+
+        assertTrue(booker.received.await(5, TimeUnit.SECONDS));
+        assertEquals(LongStream.rangeClosed(1, 100).boxed().toList(), booker.bookingIds);
+    }
+
+    private static BookingStatusChangedEvent event(Long bookerId, Long ownerId) {
+        return new BookingStatusChangedEvent(booking(1L, bookerId), ownerId);
+    }
+
+    private static BookingDtoOut booking(Long id, Long bookerId) {
+        return BookingDtoOut.builder().id(id).booker(UserDto.builder().id(bookerId).build()).build();
+    }
+
+    private class StuckEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> bookingIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+
+        RecordingEmitter() {
+            this(1);
+        }
+
+        RecordingEmitter(int expected) {
+            received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .filter(part -> part.getData() instanceof BookingDtoOut)
+                    .forEach(part -> {
+                        bookingIds.add(((BookingDtoOut) part.getData()).getId());
+                        received.countDown();
+                    });
+        }
+    }
+}
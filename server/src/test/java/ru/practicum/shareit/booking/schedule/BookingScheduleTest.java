@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking.schedule;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingScheduleTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final Clock CLOCK = Clock.fixed(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void testBookingWrittenElsewhereIsSeenAfterExpiry() {
+        BookingSchedule schedule = new BookingSchedule(bookingRepository, "expireAfterWrite=1m", nanos::get, CLOCK);
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfter(1L, BookingSchedule.ACTIVE_STATUSES, START))
+                .thenReturn(List.of())
+                .thenReturn(List.of(booking(7L, START, START.plusHours(2))));
+
+        assertTrue(schedule.findOverlap(1L, START, START.plusHours(1)).isEmpty());
+
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(schedule.findOverlap(1L, START, START.plusHours(1)).isEmpty());
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(7L, schedule.findOverlap(1L, START, START.plusHours(1)).orElseThrow().id());
+        assertEquals(List.of(new HourCalendar.Period(START, START.plusHours(2))),
+                schedule.availability(1L, START, START.plusHours(3)).busy());
+        verify(bookingRepository, times(2)).findAllByItemIdAndStatusInAndEndAfter(1L, BookingSchedule.ACTIVE_STATUSES, START);
+    }
+
+    @Test
+    void testNumberOfLoadedItemsIsBounded() {
+        BookingSchedule schedule = new BookingSchedule(bookingRepository, "maximumSize=10", nanos::get, CLOCK);
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfter(anyLong(), eq(BookingSchedule.ACTIVE_STATUSES), any()))
+                .thenReturn(List.of());
+
+        for (long itemId = 1; itemId <= 1_000; itemId++) {
+            schedule.book(itemId, itemId, START, START.plusHours(1));
+        }
+
+        assertTrue(schedule.size() <= 10);
+    }
+
+    @Test
+    void testCalendarIsBuiltOnDemandAndEvictedWithItem() {
+        BookingSchedule schedule = new BookingSchedule(bookingRepository, "expireAfterWrite=1m", nanos::get, CLOCK);
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfter(1L, BookingSchedule.ACTIVE_STATUSES, START))
+                .thenReturn(List.of(booking(7L, START, START.plusHours(1))));
+
+        schedule.book(1L, 8L, START.plusHours(2), START.plusHours(3));
+        assertFalse(schedule.hasCalendar(1L));
+
+        assertEquals(List.of(new HourCalendar.Period(START, START.plusHours(1)),
+                        new HourCalendar.Period(START.plusHours(2), START.plusHours(3))),
+                schedule.availability(1L, START, START.plusHours(4)).busy());
+        assertTrue(schedule.hasCalendar(1L));
+
+        schedule.release(1L, 8L);
+        assertEquals(List.of(new HourCalendar.Period(START, START.plusHours(1))),
+                schedule.availability(1L, START, START.plusHours(4)).busy());
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertFalse(schedule.hasCalendar(1L));
+    }
+
+    @Test
+    void testAvailabilityOutsideCalendarHorizonIsComputedForRequestedPeriod() {
+        BookingSchedule schedule = new BookingSchedule(bookingRepository, "expireAfterWrite=1m", nanos::get, CLOCK);
+        LocalDateTime farEnd = LocalDateTime.of(9999, 12, 31, 0, 0);
+        when(bookingRepository.findAllByItemIdAndStatusInAndEndAfter(1L, BookingSchedule.ACTIVE_STATUSES, START))
+                .thenReturn(List.of(booking(7L, START.plusHours(2), farEnd)));
+
+        LocalDateTime from = START.plusYears(100);
+        assertEquals(List.of(new HourCalendar.Period(from, from.plusDays(3))),
+                schedule.availability(1L, from, from.plusDays(3)).busy());
+        assertEquals(List.of(new HourCalendar.Period(START, START.plusHours(2))),
+                schedule.availability(1L, START, START.plusHours(5)).free());
+        assertThrows(IllegalArgumentException.class,
+                () -> schedule.availability(1L, START, START.plusDays(BookingSchedule.MAX_AVAILABILITY_DAYS + 1L)));
+    }
+
+    private static Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+        return Booking.builder().id(id).start(start).end(end).status(Booking.BookingStatus.APPROVED).build();
+    }
+}
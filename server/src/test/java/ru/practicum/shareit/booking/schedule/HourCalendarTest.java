@@ -0,0 +1,93 @@
+package ru.practicum.shareit.booking.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HourCalendarTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void testAvailabilitySplitsPeriodIntoBusyAndFreeHours() {
+        HourCalendar calendar = new HourCalendar(BASE, at(24 * 40));
+        calendar.mark(at(10).plusMinutes(30), at(12));
+        calendar.mark(at(23), at(26));
+
+        HourCalendar.Availability availability = calendar.availability(at(8), at(30).plusMinutes(15));
+
+        assertEquals(List.of(period(10, 12), period(23, 26)), availability.busy());
+        assertEquals(List.of(period(8, 10), period(12, 23), period(26, 31)), availability.free());
+    }
+
+    @Test
+    void testRebuildKeepsHoursOfNeighbouringBookings() {
+        IntervalTree tree = new IntervalTree();
+        HourCalendar calendar = new HourCalendar(BASE, at(24 * 40));
+        tree.insert(1L, at(10), at(11).plusMinutes(30));
+        tree.insert(2L, at(11).plusMinutes(30), at(50));
+        calendar.mark(at(10), at(11).plusMinutes(30));
+        calendar.mark(at(11).plusMinutes(30), at(50));
+
+        IntervalTree.Interval removed = tree.remove(2L).orElseThrow();
+        calendar.rebuild(removed.start(), removed.end(), tree.findAllOverlaps(at(0), at(72)));
+
+        HourCalendar.Availability availability = calendar.availability(at(0), at(72));
+        assertEquals(List.of(period(10, 12)), availability.busy());
+    }
+
+    @Test
+    void testMatchesBruteForceOnRandomBookings() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        HourCalendar calendar = new HourCalendar(BASE, at(24 * 40));
+        for (int step = 0; step < 2_000; step++) {
+            long id = random.nextInt(100);
+            IntervalTree.Interval removed = tree.remove(id).orElse(null);
+            if (removed != null) {
+                calendar.rebuild(removed.start(), removed.end(),
+                        tree.findAllOverlaps(removed.start().minusDays(1), removed.end().plusDays(1)));
+            }
+            if (random.nextBoolean()) {
+                LocalDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 30));
+                LocalDateTime end = start.plusMinutes(1 + random.nextInt(60 * 72));
+                tree.insert(id, start, end);
+                calendar.mark(start, end);
+            }
+        }
+
+        HourCalendar.Availability availability = calendar.availability(at(0), at(24 * 35));
+        for (HourCalendar.Period period : availability.busy()) {
+            for (LocalDateTime hour = period.start(); hour.isBefore(period.end()); hour = hour.plusHours(1)) {
+                assertTrue(!tree.findAllOverlaps(hour, hour.plusHours(1)).isEmpty(), "час " + hour + " свободен");
+            }
+        }
+        for (HourCalendar.Period period : availability.free()) {
+            assertTrue(tree.findAllOverlaps(period.start(), period.end()).isEmpty(), "период " + period + " занят");
+        }
+    }
+
+    @Test
+    void testOnlyDaysInsideHorizonAreStored() {
+        HourCalendar calendar = new HourCalendar(BASE, at(24 * 10));
+        calendar.mark(BASE.minusYears(5), LocalDateTime.of(9999, 12, 31, 0, 0));
+
+        assertEquals(10, calendar.days());
+        assertTrue(calendar.covers(at(5), at(24 * 10)));
+        assertFalse(calendar.covers(at(5), at(24 * 10).plusMinutes(1)));
+        assertEquals(List.of(period(0, 24 * 10)), calendar.availability(BASE, at(24 * 10)).busy());
+    }
+
+    private static LocalDateTime at(int hours) {
+        return BASE.plusHours(hours);
+    }
+
+    private static HourCalendar.Period period(int fromHour, int toHour) {
+        return new HourCalendar.Period(at(fromHour), at(toHour));
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.booking.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void testAdjacentIntervalsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1L, at(10), at(20));
+
+        assertTrue(tree.findOverlap(at(20), at(30)).isEmpty());
+        assertTrue(tree.findOverlap(at(0), at(10)).isEmpty());
+        assertEquals(1L, tree.findOverlap(at(19), at(30)).orElseThrow().id());
+        assertEquals(1L, tree.findOverlap(at(12), at(13)).orElseThrow().id());
+        assertEquals(1L, tree.findOverlap(at(0), at(100)).orElseThrow().id());
+    }
+
+    @Test
+    void testRemoveAndReinsertById() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1L, at(10), at(20));
+        tree.insert(2L, at(30), at(40));
+
+        tree.remove(1L);
+        tree.insert(2L, at(50), at(60));
+
+        assertEquals(1, tree.size());
+        assertFalse(tree.contains(1L));
+        assertTrue(tree.findOverlap(at(10), at(45)).isEmpty());
+        assertEquals(2L, tree.findOverlap(at(55), at(56)).orElseThrow().id());
+    }
+
+    @Test
+    void testMatchesBruteForceOnRandomOperations() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, IntervalTree.Interval> expected = new HashMap<>();
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                expected.remove(id);
+            } else {
+                int start = random.nextInt(10_000);
+                IntervalTree.Interval interval = new IntervalTree.Interval(id, at(start), at(start + 1 + random.nextInt(50)));
+                tree.insert(id, interval.start(), interval.end());
+                expected.put(id, interval);
+            }
+
+            int queryStart = random.nextInt(10_000);
+            LocalDateTime from = at(queryStart);
+            LocalDateTime to = at(queryStart + 1 + random.nextInt(100));
+            List<Long> overlapping = expected.values().stream()
+                    .filter(interval -> interval.overlaps(from, to))
+                    .map(IntervalTree.Interval::id)
+                    .sorted()
+                    .toList();
+            assertEquals(expected.size(), tree.size());
+            assertEquals(overlapping.isEmpty(), tree.findOverlap(from, to).isEmpty());
+            tree.findOverlap(from, to).ifPresent(interval -> assertTrue(overlapping.contains(interval.id())));
+            assertEquals(overlapping, tree.findAllOverlaps(from, to).stream()
+                    .map(IntervalTree.Interval::id)
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
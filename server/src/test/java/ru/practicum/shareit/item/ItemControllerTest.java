@@ -11,15 +11,20 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.controller.ItemController;
 import ru.practicum.shareit.item.dto.CommentDtoIn;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.dto.ItemSearchResult;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -91,6 +96,52 @@ public class ItemControllerTest {
         verify(itemService, times(1)).addNewItem(anyLong(), any());
     }
 
+    @SneakyThrows
+    @Test
+    void addNewItems_jsonArray_returnNewItems() {
+        when(itemService.addNewItems(eq(1L), any())).thenAnswer(invocation -> drainNames(invocation.getArgument(1)));
+
+        mockMvc.perform(post("/items/bulk")
+                        .content(mapper.writeValueAsString(List.of(itemDtoIn, itemDtoIn)))
+                        .header("X-Sharer-User-Id", 1L)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[1].name", is(itemDtoIn.getName())));
+    }
+
+    @SneakyThrows
+    @Test
+    void addNewItems_ndjson_readItemsLineByLine() {
+        when(itemService.addNewItems(eq(1L), any())).thenAnswer(invocation -> drainNames(invocation.getArgument(1)));
+        String body = "{\"name\":\"Дрель\",\"description\":\"Дрель\",\"available\":true}\n\n"
+                + "{\"name\":\"Пила\",\"description\":\"Пила\",\"available\":true}\n";
+
+        mockMvc.perform(post("/items/bulk")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(ItemController.NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].name", is("Дрель")))
+                .andExpect(jsonPath("$[1].name", is("Пила")));
+    }
+
+    @SneakyThrows
+    @Test
+    void addNewItems_ndjsonWithBrokenLine_returnBadRequest() {
+        when(itemService.addNewItems(eq(1L), any())).thenAnswer(invocation -> drainNames(invocation.getArgument(1)));
+        String body = "{\"name\":\"Дрель\",\"description\":\"Дрель\",\"available\":true}\n{\"name\":";
+
+        mockMvc.perform(post("/items/bulk")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(ItemController.NDJSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", startsWith("Некорректный JSON в строке 2")));
+    }
+
     @SneakyThrows
     @Test
     void getItemById_validUser_returnUserItem() {
@@ -147,20 +198,66 @@ public class ItemControllerTest {
     @Test
     void searchItemByText_validText_returnItemByText() {
         String searchText = "item";
-        when(itemService.searchItemByText(eq(searchText))).thenReturn(List.of(itemDtoOut));
+        when(itemService.searchItemByText(eq(searchText), eq(0), eq(10), isNull()))
+                .thenReturn(new ItemSearchResult(List.of(itemDtoOut), "next"));
 
         mockMvc.perform(get("/items/search")
                         .param("text", searchText)
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
                 .andExpect(content().json(mapper.writeValueAsString(List.of(itemDtoOut))))
                 .andExpect(jsonPath("$[0].id", is(itemDtoOut.getId()), Long.class))
                 .andExpect(jsonPath("$[0].description", is(itemDtoOut.getDescription()), String.class))
                 .andExpect(jsonPath("$[0].available", is(itemDtoOut.getAvailable()), Boolean.class))
                 .andExpect(jsonPath("$[0].requestId", is(itemDtoOut.getRequestId()), Long.class));
 
-        verify(itemService, times(1)).searchItemByText(searchText);
+        verify(itemService, times(1)).searchItemByText(searchText, 0, 10, null);
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemsByIds_validIds_returnItems() {
+        when(itemService.getItemsByIds(List.of(1L, 2L), 1L)).thenReturn(List.of(itemDtoOut));
+
+        mockMvc.perform(get("/items/batch")
+                        .param("ids", "1,2")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(itemDtoOut.getId()), Long.class));
+
+        verify(itemService, times(1)).getItemsByIds(List.of(1L, 2L), 1L);
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemAvailability_validPeriod_returnAvailability() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        ItemAvailabilityDto availability = new ItemAvailabilityDto(id, from, to,
+                List.of(new ItemAvailabilityDto.Period(from.plusHours(10), from.plusHours(12))),
+                List.of(new ItemAvailabilityDto.Period(from, from.plusHours(10)),
+                        new ItemAvailabilityDto.Period(from.plusHours(12), to)));
+        when(itemService.getItemAvailability(id, from, to)).thenReturn(availability);
+
+        mockMvc.perform(get("/items/{itemId}/availability", id)
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(id), Long.class))
+                .andExpect(jsonPath("$.busy.length()", is(1)))
+                .andExpect(jsonPath("$.busy[0].start", is("2030-01-01T10:00:00")))
+                .andExpect(jsonPath("$.free.length()", is(2)));
+
+        verify(itemService, times(1)).getItemAvailability(id, from, to);
+    }
+
+    private static List<ItemDtoOut> drainNames(Iterator<ItemDtoIn> items) {
+        List<ItemDtoOut> result = new ArrayList<>();
+        items.forEachRemaining(item -> result.add(ItemDtoOut.builder().name(item.getName()).build()));
+        return result;
     }
 
     @SneakyThrows
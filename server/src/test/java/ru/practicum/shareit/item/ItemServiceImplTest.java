@@ -0,0 +1,157 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDtoIn;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemServiceImplTest {
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRequestRepository itemRequestRepository;
+
+    @Test
+    void testGetOwnerItemsReturnsLastAndNextBookingsAndComments() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("booker@mail.ru").build());
+        Item drill = saveItem("Дрель", owner);
+        Item saw = saveItem("Пила", owner);
+
+        saveBooking(drill, booker, now.minusDays(10), now.minusDays(9), Booking.BookingStatus.APPROVED);
+        Booking last = saveBooking(drill, booker, now.minusDays(3), now.minusDays(2),
+                Booking.BookingStatus.APPROVED);
+        Booking next = saveBooking(drill, booker, now.plusDays(1), now.plusDays(2),
+                Booking.BookingStatus.APPROVED);
+        saveBooking(drill, booker, now.plusDays(5), now.plusDays(6), Booking.BookingStatus.APPROVED);
+        saveBooking(drill, booker, now.plusHours(1), now.plusHours(2), Booking.BookingStatus.REJECTED);
+        commentRepository.save(Comment.builder().item(drill).author(booker).text("Отличная дрель")
+                .created(now.minusDays(1)).build());
+
+        List<ItemDtoOut> items = itemService.getOwnerItems(owner.getId());
+
+        assertEquals(2, items.size());
+        ItemDtoOut drillDto = items.stream().filter(i -> i.getId().equals(drill.getId())).findFirst().orElseThrow();
+        ItemDtoOut sawDto = items.stream().filter(i -> i.getId().equals(saw.getId())).findFirst().orElseThrow();
+        assertEquals(last.getId(), drillDto.getLastBooking().getId());
+        assertEquals(next.getId(), drillDto.getNextBooking().getId());
+        assertEquals(1, drillDto.getComments().size());
+        assertEquals("Booker", drillDto.getComments().get(0).getAuthorName());
+        assertNull(sawDto.getLastBooking());
+        assertNull(sawDto.getNextBooking());
+        assertEquals(0, sawDto.getComments().size());
+    }
+
+    @Test
+    void testGetItemsByIdsKeepsRequestedOrderAndShowsBookingsOnlyToOwner() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("booker@mail.ru").build());
+        Item drill = saveItem("Дрель", owner);
+        Item saw = saveItem("Пила", booker);
+        Booking last = saveBooking(drill, booker, now.minusDays(3), now.minusDays(2),
+                Booking.BookingStatus.APPROVED);
+        commentRepository.save(Comment.builder().item(saw).author(owner).text("Хорошая пила")
+                .created(now.minusDays(1)).build());
+
+        List<ItemDtoOut> items = itemService.getItemsByIds(List.of(saw.getId(), -1L, drill.getId(), saw.getId()),
+                owner.getId());
+
+        assertEquals(List.of(saw.getId(), drill.getId()), items.stream().map(ItemDtoOut::getId).toList());
+        assertEquals(1, items.get(0).getComments().size());
+        assertNull(items.get(0).getLastBooking());
+        assertEquals(last.getId(), items.get(1).getLastBooking().getId());
+        assertNull(itemService.getItemsByIds(List.of(drill.getId()), booker.getId()).get(0).getLastBooking());
+    }
+
+    @Test
+    void testGetItemByIdShowsSameBookingsAsOwnerItems() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("booker@mail.ru").build());
+        Item drill = saveItem("Дрель", owner);
+        Booking last = saveBooking(drill, booker, now.minusDays(3), now.minusDays(2),
+                Booking.BookingStatus.APPROVED);
+        Booking next = saveBooking(drill, booker, now.plusDays(1), now.plusDays(2),
+                Booking.BookingStatus.APPROVED);
+        saveBooking(drill, booker, now.plusHours(1), now.plusHours(2), Booking.BookingStatus.REJECTED);
+        commentRepository.save(Comment.builder().item(drill).author(booker).text("Отличная дрель")
+                .created(now.minusDays(1)).build());
+
+        ItemDtoOut byId = itemService.getItemById(drill.getId(), owner.getId());
+        ItemDtoOut fromOwnerItems = itemService.getOwnerItems(owner.getId()).get(0);
+
+        assertEquals(last.getId(), byId.getLastBooking().getId());
+        assertEquals(next.getId(), byId.getNextBooking().getId());
+        assertEquals(fromOwnerItems.getLastBooking().getId(), byId.getLastBooking().getId());
+        assertEquals(fromOwnerItems.getNextBooking().getId(), byId.getNextBooking().getId());
+        assertEquals(1, byId.getComments().size());
+        assertNull(itemService.getItemById(drill.getId(), booker.getId()).getNextBooking());
+    }
+
+    @Test
+    void testAddNewItemsInsertsAllItemsAndResolvesRequests() {
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        ItemRequest request = itemRequestRepository.save(ItemRequest.builder().description("Нужна дрель")
+                .requestor(owner).created(LocalDateTime.now()).build());
+        List<ItemDtoIn> itemDtoIns = IntStream.range(0, 1_200)
+                .mapToObj(i -> ItemDtoIn.builder().name("Вещь " + i).description("Описание " + i).available(true)
+                        .requestId(i % 100 == 0 ? request.getId() : null).build())
+                .toList();
+
+        List<ItemDtoOut> saved = itemService.addNewItems(owner.getId(), itemDtoIns.iterator());
+
+        assertEquals(1_200, saved.size());
+        assertEquals(1_200, saved.stream().map(ItemDtoOut::getId).distinct().count());
+        assertEquals(1_200, itemRepository.findAllByOwnerId(owner.getId()).size());
+        assertEquals(12, itemRepository.findAllByRequestId(request.getId()).size());
+    }
+
+    @Test
+    void testAddNewItemsFailsOnUnknownRequest() {
+        User owner = userRepository.save(User.builder().name("Owner").email("owner@mail.ru").build());
+        List<ItemDtoIn> itemDtoIns = List.of(ItemDtoIn.builder().name("Дрель").description("Дрель")
+                .available(true).requestId(-1L).build());
+
+        assertThrows(NotFoundException.class, () -> itemService.addNewItems(owner.getId(), itemDtoIns.iterator()));
+    }
+
+    private Item saveItem(String name, User owner) {
+        return itemRepository.save(Item.builder().name(name).description(name).available(true).owner(owner).build());
+    }
+
+    private Booking saveBooking(Item item, User booker, LocalDateTime start, LocalDateTime end,
+                                Booking.BookingStatus status) {
+        return bookingRepository.save(Booking.builder().item(item).booker(booker).start(start).end(end)
+                .status(status).build());
+    }
+}
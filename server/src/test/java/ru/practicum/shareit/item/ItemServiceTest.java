@@ -1,39 +1,52 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.schedule.BookingSchedule;
+import ru.practicum.shareit.booking.schedule.HourCalendar;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDtoIn;
 import ru.practicum.shareit.item.dto.CommentDtoOut;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.dto.ItemSearchResult;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.dto.UserDtoShort;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,11 +62,19 @@ public class ItemServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserService userService;
+    @Mock
     private ItemRequestRepository itemRequestRepository;
     @Mock
     private ItemMapper itemMapper;
     @Mock
     private CommentMapper commentMapper;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private BookingSchedule bookingSchedule;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private ItemServiceImpl itemService;
@@ -178,7 +199,6 @@ public class ItemServiceTest {
 
     @Test
     void updateItem_ShouldReturnUpdatedItem() {
-        mockUserRepositoryFindById();
         mockItemRepositoryFindById();
 
         when(itemRepository.save(any(Item.class))).thenReturn(item);
@@ -189,14 +209,13 @@ public class ItemServiceTest {
         assertionsFields(itemDtoOut, result);
 
         verify(itemRepository).findById(1L);
-        verify(userRepository).findById(1L);
+        verify(userService).getUserById(1L);
         verify(itemRepository).save(item);
         verify(itemMapper).toItemDtoOut(item);
     }
 
     @Test
     void getOwnerItems_ShouldReturnOwnerItems() {
-        mockUserRepositoryFindById();
         when(itemRepository.findAllByOwnerId(any(Long.class))).thenReturn(List.of(item));
         mockToItemDtoOut();
 
@@ -206,30 +225,161 @@ public class ItemServiceTest {
         assertEquals(1, result.size());
         assertionsFields(itemDtoOut, result.get(0));
 
-        verify(userRepository).findById(1L);
+        verify(userService).getUserById(1L);
         verify(itemRepository).findAllByOwnerId(1L);
         verify(itemMapper).toItemDtoOut(item);
     }
 
+    @Test
+    void getOwnerItems_ShouldAttachBookingsAndCommentsFromBatchQueries() {
+        Booking nextBooking = Booking.builder()
+                .id(2L)
+                .item(item)
+                .booker(user)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .status(Booking.BookingStatus.APPROVED)
+                .build();
+        comment.setItem(item);
+        when(itemRepository.findAllByOwnerId(any(Long.class))).thenReturn(List.of(item));
+        when(bookingRepository.findLastAndNextApprovedByItemIds(eq(List.of(1L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(booking, nextBooking));
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of(comment));
+        when(commentMapper.toCommentDtoOut(comment)).thenReturn(commentDtoOut);
+        mockToItemDtoOut();
+
+        List<ItemDtoOut> result = itemService.getOwnerItems(1L);
+
+        assertEquals(1, result.size());
+        assertEquals(booking.getId(), result.get(0).getLastBooking().getId());
+        assertEquals(nextBooking.getId(), result.get(0).getNextBooking().getId());
+        assertEquals(List.of(commentDtoOut), result.get(0).getComments());
+
+        verify(bookingRepository, never()).findFirstByItemIdAndStartLessThanEqualAndStatus(
+                anyLong(), any(), any(), any());
+        verify(bookingRepository, never()).findFirstByItemIdAndStartAfterAndStatus(anyLong(), any(), any(), any());
+        verify(commentRepository, never()).findAllByItemId(anyLong());
+    }
+
     @Test
     void searchItemByText_ShouldReturnFoundItems() {
-        when(itemRepository.search(any(String.class))).thenReturn(List.of(item));
+        when(itemRepository.search(any(String.class), any(Pageable.class))).thenReturn(List.of(item));
         mockToItemDtoOut();
 
-        List<ItemDtoOut> result = itemService.searchItemByText("Test");
+        ItemSearchResult result = itemService.searchItemByText("Test", 0, 10, null);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertionsFields(itemDtoOut, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertionsFields(itemDtoOut, result.getItems().get(0));
+        assertNull(result.getNextCursor());
 
-        verify(itemRepository).search("Test");
+        verify(itemRepository).search(eq("Test"), argThat(page -> page.getOffset() == 0 && page.getPageSize() == 10));
         verify(itemMapper).toItemDtoOut(item);
     }
 
+    @Test
+    void searchItemByText_ShouldContinueFromCursor_WhenPageIsFull() {
+        when(itemRepository.search(any(String.class), any(Pageable.class))).thenReturn(List.of(item));
+        mockToItemDtoOut();
+
+        ItemSearchResult firstPage = itemService.searchItemByText("Test", 0, 1, null);
+
+        assertNotNull(firstPage.getNextCursor());
+
+        when(itemRepository.searchAfter(anyString(), anyInt(), anyLong(), any(Limit.class))).thenReturn(List.of());
+
+        ItemSearchResult secondPage = itemService.searchItemByText("Test", 0, 1, firstPage.getNextCursor());
+
+        assertTrue(secondPage.getItems().isEmpty());
+        assertNull(secondPage.getNextCursor());
+        verify(itemRepository).searchAfter("Test", 1, item.getId(), Limit.of(1));
+    }
+
+    @Test
+    void searchItemByText_ShouldThrowValidationException_WhenPageIsInvalid() {
+        assertThrows(ValidationException.class, () -> itemService.searchItemByText("Test", -1, 10, null));
+        assertThrows(ValidationException.class, () -> itemService.searchItemByText("Test", 0, 0, null));
+        assertThrows(ValidationException.class, () -> itemService.searchItemByText("Test", 0, 101, null));
+        assertThrows(ValidationException.class, () -> itemService.searchItemByText("Test", 0, 10, "!!!"));
+    }
+
+    @Test
+    void getItemsByIds_ShouldThrowValidationException_WhenIdsCountIsInvalid() {
+        assertThrows(ValidationException.class, () -> itemService.getItemsByIds(List.of(), 1L));
+        assertThrows(ValidationException.class, () -> itemService.getItemsByIds(
+                LongStream.rangeClosed(1, 101).boxed().toList(), 1L));
+        verify(itemRepository, never()).findAllWithOwnerByIdIn(any());
+    }
+
+    @Test
+    void getItemsByIds_ShouldNotLoadBookings_WhenUserOwnsNoneOfItems() {
+        when(itemRepository.findAllWithOwnerByIdIn(List.of(1L))).thenReturn(List.of(item));
+        when(commentRepository.findAllByItemIdIn(List.of(1L))).thenReturn(List.of());
+        when(itemMapper.toItemDtoOut(item)).thenReturn(itemDtoOut);
+
+        List<ItemDtoOut> items = itemService.getItemsByIds(List.of(1L), 99L);
+
+        assertEquals(List.of(itemDtoOut), items);
+        verify(bookingRepository, never()).findLastAndNextApprovedByItemIds(any(), any());
+    }
+
+    @Test
+    void getItemAvailability_ShouldReturnPeriodsFromSchedule() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(bookingSchedule.availability(1L, from, to)).thenReturn(new HourCalendar.Availability(
+                List.of(new HourCalendar.Period(from.plusHours(10), from.plusHours(12))),
+                List.of(new HourCalendar.Period(from, from.plusHours(10)), new HourCalendar.Period(from.plusHours(12), to))));
+
+        ItemAvailabilityDto availability = itemService.getItemAvailability(1L, from, to);
+
+        assertEquals(1L, availability.getItemId());
+        assertEquals(1, availability.getBusy().size());
+        assertEquals(from.plusHours(10), availability.getBusy().get(0).getStart());
+        assertEquals(from.plusHours(12), availability.getBusy().get(0).getEnd());
+        assertEquals(2, availability.getFree().size());
+        verify(bookingRepository, never()).findAllByItemIdAndStatusInAndEndAfter(anyLong(), any(), any());
+    }
+
+    @Test
+    void getItemAvailability_ShouldThrowException_WhenPeriodIsInvalidOrItemNotFound() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        assertThrows(ValidationException.class, () -> itemService.getItemAvailability(1L, from, from));
+        assertThrows(ValidationException.class, () -> itemService.getItemAvailability(1L, from, from.plusDays(367)));
+        when(itemRepository.existsById(1L)).thenReturn(false);
+        assertThrows(NotFoundException.class, () -> itemService.getItemAvailability(1L, from, from.plusDays(1)));
+        verify(bookingSchedule, never()).availability(anyLong(), any(), any());
+    }
+
+    @Test
+    void searchItemByText_ShouldUseIndex_WhenIndexEnabled() {
+        Item anotherItem = Item.builder().id(2L).name("Another").description("Another").available(true)
+                .owner(user).build();
+        when(itemSearchIndex.isReady()).thenReturn(true);
+        when(itemSearchIndex.search("Test")).thenReturn(List.of(new ItemSearchIndex.Match(2L, 4),
+                new ItemSearchIndex.Match(1L, 1), new ItemSearchIndex.Match(3L, 1)));
+        when(itemRepository.findAllAvailableByIdIn(List.of(2L, 1L))).thenReturn(List.of(item, anotherItem));
+        when(itemMapper.toItemDtoOut(any(Item.class)))
+                .thenAnswer(invocation -> ItemDtoOut.builder().id(invocation.<Item>getArgument(0).getId()).build());
+
+        ItemSearchResult result = itemService.searchItemByText("Test", 0, 2, null);
+
+        assertEquals(List.of(2L, 1L), result.getItems().stream().map(ItemDtoOut::getId).toList());
+        assertNotNull(result.getNextCursor());
+        verify(itemRepository, never()).search(anyString(), any(Pageable.class));
+
+        when(itemRepository.findAllAvailableByIdIn(List.of(3L))).thenReturn(List.of());
+
+        ItemSearchResult nextPage = itemService.searchItemByText("Test", 0, 2, result.getNextCursor());
+
+        assertTrue(nextPage.getItems().isEmpty());
+        assertNull(nextPage.getNextCursor());
+    }
+
     @Test
     void saveComment_ShouldSaveCommentSuccessfully() {
         when(itemRepository.existsById(item.getId())).thenReturn(true);
-        when(userRepository.existsById(user.getId())).thenReturn(true);
         when(bookingRepository.findByBookerIdAndItemIdAndStatusAndEndBefore(
                 eq(user.getId()),
                 eq(item.getId()),
@@ -249,7 +399,7 @@ public class ItemServiceTest {
         assertEquals(commentDtoOut.getCreated(), result.getCreated());
 
         verify(itemRepository).existsById(item.getId());
-        verify(userRepository).existsById(user.getId());
+        verify(userService).getUserById(user.getId());
         verify(bookingRepository).findByBookerIdAndItemIdAndStatusAndEndBefore(
                 eq(user.getId()),
                 eq(item.getId()),
@@ -299,6 +449,45 @@ public class ItemServiceTest {
         assertEquals("Описание вещи не может быть пустым", exception.getMessage());
     }
 
+    @Test
+    void addNewItems_ShouldThrowValidationException_WithItemNumber() {
+        ItemDtoIn invalid = ItemDtoIn.builder().name("Пила").description("Пила").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> itemService.addNewItems(1L, List.of(itemDtoIn, invalid).iterator()));
+
+        assertEquals("Вещь №2: не указана доступность вещи", exception.getMessage());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void addNewItems_ShouldThrowValidationException_WhenTextIsTooLong() {
+        ItemDtoIn longName = ItemDtoIn.builder().name("П".repeat(256)).description("Пила").available(true).build();
+        ItemDtoIn longDescription = ItemDtoIn.builder().name("Пила").description("П".repeat(256)).available(true).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+
+        ValidationException nameException = assertThrows(ValidationException.class,
+                () -> itemService.addNewItems(1L, List.of(itemDtoIn, longName).iterator()));
+        ValidationException descriptionException = assertThrows(ValidationException.class,
+                () -> itemService.addNewItems(1L, List.of(itemDtoIn, itemDtoIn, longDescription).iterator()));
+
+        assertEquals("Вещь №2: имя вещи не может быть длиннее 255 символов", nameException.getMessage());
+        assertEquals("Вещь №3: описание вещи не может быть длиннее 255 символов", descriptionException.getMessage());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void addNewItems_ShouldThrowValidationException_WhenListIsEmpty() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+
+        assertThrows(ValidationException.class,
+                () -> itemService.addNewItems(1L, Collections.emptyIterator()));
+    }
+
     @Test
     void addNewItem_ShouldThrowNotFoundException_WhenUserNotFound() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
@@ -323,7 +512,6 @@ public class ItemServiceTest {
     @Test
     void saveComment_ShouldThrowValidationException_WhenBookingNotFound() {
         when(itemRepository.existsById(anyLong())).thenReturn(true);
-        when(userRepository.existsById(anyLong())).thenReturn(true);
         when(bookingRepository.findByBookerIdAndItemIdAndStatusAndEndBefore(
                 anyLong(), anyLong(), eq(Booking.BookingStatus.APPROVED), any(LocalDateTime.class)))
                 .thenReturn(null);
@@ -337,7 +525,6 @@ public class ItemServiceTest {
 
     @Test
     void getOwnerItems_ShouldReturnEmptyList_WhenNoItemsFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
         when(itemRepository.findAllByOwnerId(anyLong())).thenReturn(Collections.emptyList());
 
         List<ItemDtoOut> result = itemService.getOwnerItems(1L);
@@ -363,7 +550,6 @@ public class ItemServiceTest {
 
     @Test
     void getOwnerItems_ShouldReturnEmptyList_WhenOwnerHasNoItems() {
-        mockUserRepositoryFindById();
         when(itemRepository.findAllByOwnerId(any(Long.class))).thenReturn(Collections.emptyList());
 
         List<ItemDtoOut> result = itemService.getOwnerItems(1L);
@@ -371,21 +557,20 @@ public class ItemServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(userRepository).findById(1L);
+        verify(userService).getUserById(1L);
         verify(itemRepository).findAllByOwnerId(1L);
     }
 
     @Test
     void searchItemByText_ShouldReturnEmptyList_WhenTextIsEmpty() {
-        List<ItemDtoOut> result = itemService.searchItemByText(" ");
+        ItemSearchResult result = itemService.searchItemByText(" ", 0, 10, null);
 
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.getItems().isEmpty());
     }
 
     @Test
     void updateItem_ShouldThrowValidationException_WhenItemNotOwnedByUser() {
-        mockUserRepositoryFindById();
         when(itemRepository.findById(any(Long.class))).thenReturn(Optional.of(item));
         item.setOwner(User.builder().id(2L).build());
 
@@ -400,7 +585,6 @@ public class ItemServiceTest {
     @Test
     void saveComment_ShouldThrowValidationException_WhenNoBookingFound() {
         when(itemRepository.existsById(item.getId())).thenReturn(true);
-        when(userRepository.existsById(user.getId())).thenReturn(true);
         when(bookingRepository.findByBookerIdAndItemIdAndStatusAndEndBefore(
                 eq(user.getId()),
                 eq(item.getId()),
@@ -418,7 +602,6 @@ public class ItemServiceTest {
 
     @Test
     void updateItem_ShouldThrowValidationException_WhenUserIsNotOwner() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
 
         item.setOwner(User.builder().id(2L).name("Another User").email("another@mail.com").build());
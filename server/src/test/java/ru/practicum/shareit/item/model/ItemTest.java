@@ -4,13 +4,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utility.OffsetBasedPageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -116,7 +119,7 @@ public class ItemTest {
     @Test
     void findByNameOrDescriptionTest() {
         String text = "Test";
-        Iterable<Item> itemsByName = itemRepository.search(text);
+        Iterable<Item> itemsByName = itemRepository.search(text, new OffsetBasedPageRequest(0, 10));
 
         assertTrue(itemsByName.iterator().hasNext());
         itemsByName.forEach(i -> {
@@ -124,6 +127,22 @@ public class ItemTest {
         });
     }
 
+    @Test
+    void searchTreatsLikeWildcardsAsPlainText() {
+        Item percent = itemRepository.save(Item.builder().name("Скидка 50%").description("Купон")
+                .owner(user).available(true).build());
+        Item underscore = itemRepository.save(Item.builder().name("Купон").description("код snake_case")
+                .owner(user).available(true).build());
+
+        assertEquals(List.of(percent.getId()), itemRepository.search("%", new OffsetBasedPageRequest(0, 10)).stream()
+                .map(Item::getId).toList());
+        assertEquals(List.of(underscore.getId()), itemRepository.search("_", new OffsetBasedPageRequest(0, 10)).stream()
+                .map(Item::getId).toList());
+        assertEquals(List.of(percent.getId()), itemRepository.searchAfter("%", 1, 0L, Limit.of(10)).stream()
+                .map(Item::getId).toList());
+        assertTrue(itemRepository.searchAfter("%", 1, percent.getId(), Limit.of(10)).isEmpty());
+    }
+
     @Test
     void testWithoutRequiredFields() {
         Item invalidItem = Item.builder()
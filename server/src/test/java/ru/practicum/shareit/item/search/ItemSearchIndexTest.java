@@ -0,0 +1,153 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ItemSearchIndexTest {
+
+    private ItemRepository itemRepository;
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        index = new ItemSearchIndex(itemRepository, true);
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixesIgnoringCase() {
+        index.index(item(1L, "Дрель", "Аккумуляторная дрель", true));
+        index.index(item(2L, "Отвертка", "Аккумуляторная отвертка", true));
+        index.index(item(3L, "Пила", "Ручная пила", true));
+
+        assertEquals(List.of(1L), ids("дРелЬ"));
+        assertEquals(List.of(1L, 2L), ids("аккУМУЛЯТОРНАЯ"));
+        assertEquals(List.of(1L, 2L), ids("акк"));
+        assertEquals(List.of(2L), ids("акк отв"));
+        assertTrue(index.search("молоток").isEmpty());
+        assertTrue(index.search("  ").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        index.index(item(1L, "Набор бит", "Дрельная оснастка", true));
+        index.index(item(2L, "Дрелька", "Маленькая", true));
+        index.index(item(3L, "Дрель", "Ударная", true));
+        index.index(item(4L, "Шуруповерт", "Почти дрель", true));
+
+        assertEquals(List.of(new ItemSearchIndex.Match(3L, 4), new ItemSearchIndex.Match(2L, 3),
+                new ItemSearchIndex.Match(4L, 2), new ItemSearchIndex.Match(1L, 1)), index.search("дрель"));
+    }
+
+    @Test
+    void search_ShouldSkipUnavailableItems() {
+        index.index(item(1L, "Дрель", "Дрель", false));
+
+        assertTrue(index.search("дрель").isEmpty());
+    }
+
+    @Test
+    void index_ShouldReplacePreviousVersionOfItem() {
+        index.index(item(1L, "Дрель", "Дрель", true));
+        index.index(item(1L, "Перфоратор", "Перфоратор", true));
+
+        assertTrue(index.search("дрель").isEmpty());
+        assertEquals(List.of(1L), ids("перф"));
+    }
+
+    @Test
+    void match_ShouldRankItemsMatchingAnyWordAndSkipOwnItems() {
+        index.index(item(1L, "Дрель", "Ударная дрель", true, 10L));
+        index.index(item(2L, "Перфоратор", "Для бетона", true, 10L));
+        index.index(item(3L, "Дрель", "Аккумуляторная", true, 20L));
+        index.index(item(4L, "Шуруповерт", "Почти дрель", false, 10L));
+        index.index(item(5L, "Лестница", "Стремянка", true, 10L));
+
+        assertEquals(List.of(new ItemSearchIndex.Match(2L, 8), new ItemSearchIndex.Match(1L, 6)),
+                index.match("Нужна ударная дрель или перфоратор для бетона", 20L, 2));
+        assertEquals(List.of(1L, 3L), index.match("дрель на выходные", null, 5).stream()
+                .map(ItemSearchIndex.Match::id).toList());
+        assertTrue(index.match("на и в", null, 5).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldLoadAllItems() {
+        when(itemRepository.findAll()).thenReturn(List.of(item(1L, "Дрель", "Дрель", true)));
+
+        index.rebuild();
+
+        assertEquals(List.of(1L), ids("дрель"));
+    }
+
+    @Test
+    void rebuild_ShouldMarkIndexReady() {
+        when(itemRepository.findAll()).thenReturn(List.of());
+
+        assertFalse(index.isReady());
+        index.rebuild();
+
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void rebuild_ShouldRemoveItemsMissingFromDatabase() {
+        index.index(item(1L, "Дрель", "Дрель", true));
+        when(itemRepository.findAll()).thenReturn(List.of(item(2L, "Пила", "Пила", true)));
+
+        index.rebuild();
+
+        assertTrue(index.search("дрель").isEmpty());
+        assertEquals(List.of(2L), ids("пила"));
+    }
+
+    @Test
+    void rebuild_ShouldNotOverwriteItemsIndexedAfterSnapshotWasRead() {
+        when(itemRepository.findAll()).thenAnswer(invocation -> {
+            index.index(item(1L, "Перфоратор", "Перфоратор", true));
+            index.index(item(2L, "Пила", "Пила", true));
+            return List.of(item(1L, "Дрель", "Дрель", true));
+        });
+
+        index.rebuild();
+
+        assertTrue(index.search("дрель").isEmpty());
+        assertEquals(List.of(1L), ids("перф"));
+        assertEquals(List.of(2L), ids("пила"));
+    }
+
+    @Test
+    void disabledIndex_ShouldIgnoreUpdates() {
+        ItemSearchIndex disabled = new ItemSearchIndex(itemRepository, false);
+        disabled.index(item(1L, "Дрель", "Дрель", true));
+        disabled.rebuild();
+
+        assertFalse(disabled.isEnabled());
+        assertFalse(disabled.isReady());
+        assertTrue(disabled.search("дрель").isEmpty());
+    }
+
+    private List<Long> ids(String text) {
+        return index.search(text).stream().map(ItemSearchIndex.Match::id).toList();
+    }
+
+    private Item item(Long id, String name, String description, boolean available) {
+        return Item.builder().id(id).name(name).description(description).available(available).build();
+    }
+
+    private Item item(Long id, String name, String description, boolean available, Long ownerId) {
+        Item item = item(id, name, description, available);
+        item.setOwner(User.builder().id(ownerId).build());
+        return item;
+    }
+}
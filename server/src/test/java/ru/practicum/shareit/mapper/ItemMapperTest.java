@@ -10,6 +10,7 @@ import ru.practicum.shareit.item.dto.ItemDtoIn;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.mapper.ItemMapperImpl;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.dto.UserDtoShort;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -75,6 +76,22 @@ class ItemMapperTest {
         assertEquals(user.getId(), result.getOwner().getId());
     }
 
+    @Test
+    void toItemDtoOut_shouldMapRequestRow() {
+        ItemRequestRow row = new ItemRequestRow(2L, "Нужна дрель", null, 3L,
+                1L, "Test Item", "Test Description", true, 2L, 4L, "Owner", null);
+
+        ItemDtoOut result = mapper.toItemDtoOut(row);
+
+        assertEquals(1L, result.getId());
+        assertEquals("Test Item", result.getName());
+        assertEquals("Test Description", result.getDescription());
+        assertTrue(result.getAvailable());
+        assertEquals(2L, result.getRequestId());
+        assertEquals(4L, result.getOwner().getId());
+        assertEquals("Owner", result.getOwner().getName());
+    }
+
     @Test
     void toItemDto_shouldMapCorrectly() {
         ItemDto result = mapper.toItemDto(item);
@@ -109,7 +126,7 @@ class ItemMapperTest {
 
     @Test
     void testMapToItemDtoOut_Null() {
-        ItemDtoOut result = mapper.toItemDtoOut(null);
+        ItemDtoOut result = mapper.toItemDtoOut((Item) null);
         assertNull(result);
     }
 
@@ -11,6 +11,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.request.controller.ItemRequestController;
 import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.nio.charset.StandardCharsets;
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -100,7 +102,8 @@ public class ItemRequestControllerTest {
         int from = 0;
         int size = 10;
 
-        when(requestService.getAllRequests(anyLong(), anyInt(), anyInt())).thenReturn(List.of(requestDtoOut));
+        when(requestService.getAllRequests(anyLong(), anyInt(), anyInt(), isNull()))
+                .thenReturn(new ItemRequestPage(List.of(requestDtoOut), "next"));
 
         mockMvc.perform(get("/requests/all")
                         .header("X-Sharer-User-Id", 1L)
@@ -109,13 +112,30 @@ public class ItemRequestControllerTest {
                         .param("size", String.valueOf(size)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("X-Next-Cursor", "next"))
                 .andExpect(content().json(mapper.writeValueAsString(List.of(requestDtoOut))))
                 .andExpect(jsonPath("$[0].id", is(requestDtoOut.getId()), Long.class))
                 .andExpect(jsonPath("$[0].description", is(requestDtoOut.getDescription()), String.class))
                 .andExpect(jsonPath("$[0].requestorId", is(requestDtoOut.getRequestorId()), Long.class))
                 .andExpect(jsonPath("$[0].created", is("2023-01-01T01:01:01")));
 
-        verify(requestService, times(1)).getAllRequests(anyLong(), anyInt(), anyInt());
+        verify(requestService, times(1)).getAllRequests(anyLong(), anyInt(), anyInt(), isNull());
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllRequests_withCursor_passesCursorAndOmitsHeaderOnLastPage() {
+        when(requestService.getAllRequests(1L, 0, 10, "abc"))
+                .thenReturn(new ItemRequestPage(List.of(requestDtoOut), null));
+
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].id", is(requestDtoOut.getId()), Long.class));
+
+        verify(requestService, times(1)).getAllRequests(1L, 0, 10, "abc");
     }
 
     @SneakyThrows
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemRequestServiceImplTest {
+    private final ItemRequestService itemRequestService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final EntityManager entityManager;
+
+    @Test
+    void testGetAllRequestsPagesByCursorWithoutGapsOnEqualCreated() {
+        User reader = userRepository.save(User.builder().name("Reader").email("reader@mail.ru").build());
+        User requestor = userRepository.save(User.builder().name("Requestor").email("requestor@mail.ru").build());
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<ItemRequest> saved = IntStream.range(0, 7)
+                .mapToObj(i -> itemRequestRepository.save(ItemRequest.builder().description("Запрос " + i)
+                        .requestor(requestor).created(base.plusHours(i / 3)).build()))
+                .toList();
+        itemRequestRepository.save(ItemRequest.builder().description("Свой запрос").requestor(reader)
+                .created(base.plusDays(1)).build());
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(ItemRequest::getCreated).thenComparing(ItemRequest::getId).reversed())
+                .map(ItemRequest::getId)
+                .toList();
+
+        List<Long> paged = new ArrayList<>();
+        ItemRequestPage page = itemRequestService.getAllRequests(reader.getId(), 0, 2, null);
+        paged.addAll(page.getRequests().stream().map(ItemRequestDtoOut::getId).toList());
+        while (page.getNextCursor() != null) {
+            page = itemRequestService.getAllRequests(reader.getId(), 0, 2, page.getNextCursor());
+            paged.addAll(page.getRequests().stream().map(ItemRequestDtoOut::getId).toList());
+        }
+
+        assertEquals(expected, paged);
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetAllRequestsUsesExactOffset() {
+        User reader = userRepository.save(User.builder().name("Reader").email("reader@mail.ru").build());
+        User requestor = userRepository.save(User.builder().name("Requestor").email("requestor@mail.ru").build());
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<ItemRequest> saved = IntStream.range(0, 5)
+                .mapToObj(i -> itemRequestRepository.save(ItemRequest.builder().description("Запрос " + i)
+                        .requestor(requestor).created(base.plusHours(i)).build()))
+                .toList();
+
+        List<Long> page = itemRequestService.getAllRequests(reader.getId(), 3, 2, null).getRequests().stream()
+                .map(ItemRequestDtoOut::getId)
+                .toList();
+
+        assertEquals(List.of(saved.get(1).getId(), saved.get(0).getId()), page);
+    }
+
+    @Test
+    void testGetRequestByIdWithItemsLoadsOnlyRespondingItems() {
+        User reader = userRepository.save(User.builder().name("Reader").email("reader@mail.ru").build());
+        User first = userRepository.save(User.builder().name("First").email("first@mail.ru").build());
+        User second = userRepository.save(User.builder().name("Second").email("second@mail.ru").build());
+        ItemRequest request = itemRequestRepository.save(ItemRequest.builder().description("Нужна дрель")
+                .requestor(reader).created(LocalDateTime.now()).build());
+        Item drill = itemRepository.save(Item.builder().name("Дрель").description("Дрель").available(true)
+                .owner(first).request(request).build());
+        Item hammerDrill = itemRepository.save(Item.builder().name("Перфоратор").description("Перфоратор")
+                .available(false).owner(second).request(request).build());
+        IntStream.range(0, 20).forEach(i -> itemRepository.save(Item.builder().name("Вещь " + i)
+                .description("Вещь " + i).available(true).owner(reader).build()));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ItemRequestDtoOut result = itemRequestService.getRequestByIdWithItems(reader.getId(), request.getId());
+
+        assertEquals(request.getId(), result.getId());
+        assertEquals(reader.getId(), result.getRequestorId());
+        assertEquals(List.of(drill.getId(), hammerDrill.getId()),
+                result.getItems().stream().map(ItemDtoOut::getId).toList());
+        assertEquals("Second", result.getItems().get(1).getOwner().getName());
+        assertEquals(request.getId(), result.getItems().get(1).getRequestId());
+        // проверка пользователя и запрос вместе с ответами и подобранными вещами
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetRequestByIdWithItemsReturnsRequestWithoutResponses() {
+        User reader = userRepository.save(User.builder().name("Reader").email("reader@mail.ru").build());
+        ItemRequest request = itemRequestRepository.save(ItemRequest.builder().description("Нужна пила")
+                .requestor(reader).created(LocalDateTime.now()).build());
+
+        ItemRequestDtoOut result = itemRequestService.getRequestByIdWithItems(reader.getId(), request.getId());
+
+        assertEquals("Нужна пила", result.getDescription());
+        assertTrue(result.getItems().isEmpty());
+        assertThrows(NotFoundException.class,
+                () -> itemRequestService.getRequestByIdWithItems(reader.getId(), request.getId() + 1000));
+    }
+}
@@ -6,20 +6,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.ItemDtoOut;
 import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
 import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemSuggestionRepository;
 import ru.practicum.shareit.request.service.ItemRequestServiceImpl;
+import ru.practicum.shareit.request.suggestion.ItemRequestCreatedEvent;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,6 +50,8 @@ class ItemRequestServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserService userService;
 
     @Mock
     private ItemRequestMapper itemRequestMapper;
@@ -48,6 +59,12 @@ class ItemRequestServiceTest {
     @Mock
     private ItemMapper itemMapper;
 
+    @Mock
+    private ItemSuggestionRepository itemSuggestionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
 
@@ -92,11 +109,11 @@ class ItemRequestServiceTest {
         assertNotNull(result);
         assertEquals(itemRequestDtoOut.getId(), result.getId());
         assertEquals(itemRequestDtoOut.getDescription(), result.getDescription());
+        verify(eventPublisher).publishEvent(new ItemRequestCreatedEvent(1L, 1L, "Test description"));
     }
 
     @Test
     void getOwnerRequests_ShouldReturnRequestsWithItems() {
-        mockUserRepositoryFindById();
         when(itemRequestRepository.findAllByRequestorIdOrderByCreatedDesc(1L)).thenReturn(List.of(itemRequest));
         mockItemRepositoryFindAllByRequestId();
         mockItemRequestMapperToRequestDtoOut();
@@ -112,43 +129,93 @@ class ItemRequestServiceTest {
 
     @Test
     void getAllRequests_ShouldReturnRequestsWithItems() {
-        mockUserRepositoryFindById();
         when(itemRequestRepository.findAllByRequestorIdIsNot(eq(1L), any(Pageable.class))).thenReturn(List.of(itemRequest));
         mockItemRepositoryFindAllByRequestId();
         mockItemRequestMapperToRequestDtoOut();
         mockItemMapperToItemDtoOut();
 
-        List<ItemRequestDtoOut> result = itemRequestService.getAllRequests(1L, 0, 10);
+        ItemRequestPage result = itemRequestService.getAllRequests(1L, 0, 10, null);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(1, result.getRequests().size());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void getRequestByIdWithItems_ShouldReturnRequestWithItems() {
-        mockUserRepositoryFindById();
-        when(itemRequestRepository.findById(1L)).thenReturn(Optional.of(itemRequest));
+    void getAllRequests_ShouldUseOffsetNotMultipleOfSize() {
+        when(itemRequestRepository.findAllByRequestorIdIsNot(eq(1L), any(Pageable.class))).thenReturn(List.of(itemRequest));
         mockItemRequestMapperToRequestDtoOut();
 
+        itemRequestService.getAllRequests(1L, 3, 2, null);
+
+        verify(itemRequestRepository).findAllByRequestorIdIsNot(eq(1L),
+                argThat(pageable -> pageable.getOffset() == 3 && pageable.getPageSize() == 2));
+    }
+
+    @Test
+    void getAllRequests_ShouldContinueFromCursorOfFullPage() {
+        when(itemRequestRepository.findAllByRequestorIdIsNot(eq(1L), any(Pageable.class))).thenReturn(List.of(itemRequest));
+        when(itemRequestRepository.findAllByRequestorIdIsNotAfter(1L, itemRequest.getCreated(), itemRequest.getId(),
+                Limit.of(1))).thenReturn(List.of());
+        mockItemRequestMapperToRequestDtoOut();
+
+        ItemRequestPage first = itemRequestService.getAllRequests(1L, 0, 1, null);
+        ItemRequestPage second = itemRequestService.getAllRequests(1L, 0, 1, first.getNextCursor());
+
+        assertNotNull(first.getNextCursor());
+        assertTrue(second.getRequests().isEmpty());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getAllRequests_ShouldRejectInvalidPageAndCursor() {
+        assertThrows(ValidationException.class, () -> itemRequestService.getAllRequests(1L, -1, 10, null));
+        assertThrows(ValidationException.class, () -> itemRequestService.getAllRequests(1L, 0, 0, null));
+        assertThrows(ValidationException.class, () -> itemRequestService.getAllRequests(1L, 0, Integer.MAX_VALUE, null));
+        assertThrows(ValidationException.class, () -> itemRequestService.getAllRequests(1L, 0, 10, "bm90LWEtZGF0ZXwx"));
+        verifyNoInteractions(itemRequestRepository);
+    }
+
+    @Test
+    void getRequestByIdWithItems_ShouldReturnRequestWithItems() {
+        when(itemMapper.toItemDtoOut(any(ItemRequestRow.class)))
+                .thenAnswer(invocation -> new ItemMapperImpl().toItemDtoOut(invocation.<ItemRequestRow>getArgument(0)));
+        when(itemRequestRepository.findWithItemsAndSuggestionsById(1L)).thenReturn(List.of(
+                new ItemRequestRow(1L, "Test description", itemRequest.getCreated(), 2L,
+                        101L, "Test Item", "Item description", true, 1L, 3L, "Owner", null),
+                new ItemRequestRow(1L, "Test description", itemRequest.getCreated(), 2L,
+                        103L, "Suggested", "Item description", true, null, 4L, "Other", 1),
+                new ItemRequestRow(1L, "Test description", itemRequest.getCreated(), 2L,
+                        102L, "Best suggested", "Item description", true, null, 4L, "Other", 2)));
+
         ItemRequestDtoOut result = itemRequestService.getRequestByIdWithItems(1L, 1L);
 
         assertNotNull(result);
         assertEquals(itemRequestDtoOut.getId(), result.getId());
         assertEquals(itemRequestDtoOut.getDescription(), result.getDescription());
+        assertEquals(2L, result.getRequestorId());
+        assertEquals(1, result.getItems().size());
+        assertEquals(101L, result.getItems().get(0).getId());
+        assertEquals("Owner", result.getItems().get(0).getOwner().getName());
+        assertEquals(1L, result.getItems().get(0).getRequestId());
+        assertEquals(List.of(102L, 103L), result.getSuggestions().stream().map(ItemDtoOut::getId).toList());
+        assertNull(result.getSuggestions().get(0).getRequestId());
+        verifyNoInteractions(itemRepository, itemSuggestionRepository);
     }
 
     @Test
     void testGetRequestByIdUserNotFound() {
         long invalidUserId = 322L;
 
-        when(userRepository.findById(invalidUserId)).thenReturn(Optional.empty());
+        when(userService.getUserById(invalidUserId))
+                .thenThrow(new NotFoundException("Пользователь с ID:" + invalidUserId + " не найден"));
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> itemRequestService.getRequestByIdWithItems(invalidUserId, 1L));
 
-        assertEquals("Пользователь с ID " + invalidUserId + " не найден", exception.getMessage());
+        assertEquals("Пользователь с ID:" + invalidUserId + " не найден", exception.getMessage());
 
-        verify(userRepository).findById(invalidUserId);
+        verify(userService).getUserById(invalidUserId);
         verifyNoInteractions(itemRequestRepository);
     }
 
@@ -157,16 +224,15 @@ class ItemRequestServiceTest {
         long validUserId = 1L;
         long invalidRequestId = 322L;
 
-        when(userRepository.findById(validUserId)).thenReturn(Optional.of(user));
-        when(itemRequestRepository.findById(invalidRequestId)).thenReturn(Optional.empty());
+        when(itemRequestRepository.findWithItemsAndSuggestionsById(invalidRequestId)).thenReturn(List.of());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> itemRequestService.getRequestByIdWithItems(validUserId, invalidRequestId));
 
         assertEquals("Запрос с ID " + invalidRequestId + " не найден", exception.getMessage());
 
-        verify(userRepository).findById(validUserId);
-        verify(itemRequestRepository).findById(invalidRequestId);
+        verify(userService).getUserById(validUserId);
+        verify(itemRequestRepository).findWithItemsAndSuggestionsById(invalidRequestId);
     }
 
     @Test
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.ItemDtoIn;
+import ru.practicum.shareit.item.dto.ItemDtoOut;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
+import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Подбор вещей идет после коммита в отдельном потоке, поэтому тест работает без общей транзакции
+ * и удаляет созданных пользователей, а вместе с ними их вещи и запросы.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ItemSuggestionMatcherTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final ItemRequestService itemRequestService;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userIds.forEach(userService::delete);
+    }
+
+    @Test
+    void newRequestGetsSuggestionsFromOtherUsersItems() throws InterruptedException {
+        UserDto requestor = saveUser("Requestor", "requestor@suggestions.ru");
+        UserDto owner = saveUser("Owner", "owner@suggestions.ru");
+        ItemDtoOut compactor = saveItem(owner, "Виброплита", "Бензиновая виброплита для трамбовки");
+        ItemDtoOut rammer = saveItem(owner, "Вибротрамбовка", "Для трамбовки грунта");
+        saveItem(owner, "Стремянка", "Алюминиевая");
+        saveItem(requestor, "Виброплита", "Своя виброплита");
+
+        ItemRequestDtoOut request = itemRequestService.addNewRequest(requestor.getId(),
+                ItemRequestDtoIn.builder().description("Нужна виброплита для трамбовки песка").build());
+        List<ItemDtoOut> suggestions = awaitSuggestions(requestor.getId(), request.getId());
+
+        assertEquals(List.of(compactor.getId(), rammer.getId()), suggestions.stream().map(ItemDtoOut::getId).toList());
+        assertEquals("Owner", suggestions.get(0).getOwner().getName());
+        ItemRequestDtoOut withoutItems = itemRequestService.getRequestByIdWithItems(owner.getId(), request.getId());
+        assertEquals(List.of(compactor.getId(), rammer.getId()),
+                withoutItems.getSuggestions().stream().map(ItemDtoOut::getId).toList());
+        assertTrue(withoutItems.getItems().isEmpty());
+
+        ItemDtoOut answer = itemService.addNewItem(owner.getId(), ItemDtoIn.builder().name("Каток")
+                .description("Ручной каток").available(true).requestId(request.getId()).build());
+        ItemRequestDtoOut withItems = itemRequestService.getRequestByIdWithItems(owner.getId(), request.getId());
+        assertEquals(List.of(answer.getId()), withItems.getItems().stream().map(ItemDtoOut::getId).toList());
+        assertEquals(request.getId(), withItems.getItems().get(0).getRequestId());
+        assertEquals("Owner", withItems.getItems().get(0).getOwner().getName());
+        assertEquals(List.of(compactor.getId(), rammer.getId()),
+                withItems.getSuggestions().stream().map(ItemDtoOut::getId).toList());
+        assertNull(withItems.getSuggestions().get(0).getRequestId());
+    }
+
+    private List<ItemDtoOut> awaitSuggestions(Long userId, Long requestId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<ItemDtoOut> suggestions = List.of();
+        while (suggestions.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            suggestions = itemRequestService.getOwnerRequests(userId).stream()
+                    .filter(request -> request.getId().equals(requestId))
+                    .findFirst()
+                    .orElseThrow()
+                    .getSuggestions();
+        }
+        return suggestions;
+    }
+
+    private UserDto saveUser(String name, String email) {
+        UserDto user = userService.saveUser(UserDto.builder().name(name).email(email).build());
+        userIds.add(user.getId());
+        return user;
+    }
+
+    private ItemDtoOut saveItem(UserDto owner, String name, String description) {
+        return itemService.addNewItem(owner.getId(),
+                ItemDtoIn.builder().name(name).description(description).available(true).build());
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static ru.practicum.shareit.config.CacheConfig.USERS_CACHE;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class UserCacheTest {
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        cacheManager.getCache(USERS_CACHE).clear();
+    }
+
+    @Test
+    void getUserByIdServesRepeatedReadsFromCache() {
+        UserDto user = userService.saveUser(UserDto.builder().name("Name").email("cache@mail.ru").build());
+        double hits = cacheGets("hit");
+
+        userService.getUserById(user.getId());
+        userRepository.deleteById(user.getId());
+
+        assertEquals("Name", userService.getUserById(user.getId()).getName());
+        assertEquals(hits + 2, cacheGets("hit"));
+    }
+
+    @Test
+    void updateReplacesCachedUser() {
+        UserDto user = userService.saveUser(UserDto.builder().name("Name").email("cache@mail.ru").build());
+        userService.getUserById(user.getId());
+
+        userService.update(user.getId(), UserDto.builder().name("newName").build());
+
+        assertEquals("newName", cachedUser(user.getId()).getName());
+    }
+
+    @Test
+    void deleteEvictsCachedUser() {
+        UserDto user = userService.saveUser(UserDto.builder().name("Name").email("cache@mail.ru").build());
+        userService.getUserById(user.getId());
+
+        userService.delete(user.getId());
+
+        assertNull(cacheManager.getCache(USERS_CACHE).get(user.getId()));
+    }
+
+    private UserDto cachedUser(Long userId) {
+        Cache.ValueWrapper valueWrapper = cacheManager.getCache(USERS_CACHE).get(userId);
+        return valueWrapper == null ? null : (UserDto) valueWrapper.get();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", USERS_CACHE).tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -82,7 +82,7 @@ public class UserServiceTest {
 
     @Test
     void saveUser_validUserDto_savesUserAndReturnsDto() {
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
         when(userMapper.toUser(any(UserDto.class))).thenReturn(user);
         when(userMapper.toUserDto(any(User.class))).thenReturn(userDto);
 
@@ -91,7 +91,7 @@ public class UserServiceTest {
         Assertions.assertNotNull(result);
         Assertions.assertEquals(userDto.getId(), result.getId());
         Assertions.assertEquals(userDto.getEmail(), result.getEmail());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
 
@@ -110,7 +110,7 @@ public class UserServiceTest {
         Assertions.assertNotNull(result);
         Assertions.assertEquals("Updated Name", user.getName());
         Assertions.assertEquals("updated@mail.ru", user.getEmail());
-        verify(userRepository, times(1)).save(user);
+        verify(userRepository, times(1)).saveAndFlush(user);
     }
 
     @Test
@@ -123,7 +123,7 @@ public class UserServiceTest {
         );
 
         Assertions.assertEquals("Пользователь с ID:999 не найден", exception.getMessage());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Пишет завершённые спаны в файл, по одному JSON-объекту в формате Zipkin v2 на строку, чтобы трассы
+ * можно было разбирать без внешнего коллектора. Включается свойством shareit.tracing.file.
+ * Вместо synchronized используется блокировка: запись идёт из виртуальных потоков.
+ * Класс общий для сервера и шлюза, оба приложения подхватывают его сканированием пакета ru.practicum.shareit.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("shareit.tracing.file")
+public class SpanFileExporter extends SpanHandler implements DisposableBean {
+    private final Path file;
+    private final BufferedWriter writer;
+    private final Lock lock = new ReentrantLock();
+
+    public SpanFileExporter(@Value("${shareit.tracing.file}") Path file) throws IOException {
+        this.file = file;
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        log.info("Спаны записываются в файл {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            writer.write(span.toString());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            log.warn("Не удалось записать спан в файл {}: {}", file, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.lock();
+        try {
+            writer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
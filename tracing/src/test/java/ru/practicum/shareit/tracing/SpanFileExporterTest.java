@@ -0,0 +1,42 @@
+package ru.practicum.shareit.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler.Cause;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpanFileExporterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testFinishedSpansAreWrittenOnePerLine() throws Exception {
+        Path file = directory.resolve("traces/spans.jsonl");
+        SpanFileExporter exporter = new SpanFileExporter(file);
+        TraceContext context = TraceContext.newBuilder().traceId(1L).spanId(2L).build();
+
+        exporter.end(context, span(context, "get /items"), Cause.FINISHED);
+        exporter.end(context, span(context, "abandoned"), Cause.ABANDONED);
+        exporter.end(context, span(context, "get /bookings"), Cause.FINISHED);
+        exporter.destroy();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"name\":\"get /items\""));
+        assertTrue(lines.get(1).contains("\"name\":\"get /bookings\""));
+    }
+
+    private static MutableSpan span(TraceContext context, String name) {
+        MutableSpan span = new MutableSpan(context, null);
+        span.name(name);
+        return span;
+    }
+}